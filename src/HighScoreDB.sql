@@ -0,0 +1,11 @@
+CREATE DATABASE IF NOT EXISTS highscoredb;
+USE highscoredb;
+
+CREATE TABLE IF NOT EXISTS highscore (
+    id INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    score INT NOT NULL,
+    PRIMARY KEY (id),
+    -- Leaderboard order, lets pages be read from where the last page ended
+    INDEX score_id (score DESC, id)
+);
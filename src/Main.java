@@ -1,9 +1,11 @@
 import controller.SpaceInvaderController;
 import javafx.application.Application;
 import javafx.stage.Stage;
+import view.LoadingScreen;
 
 /**
  * Main class. Launches the program and gets the stage.
+ * Shows the loading screen until all assets are loaded, then starts the game.
  *
  * @author Ludvig Lundin, Mattias Frigren
  * @version 1.2
@@ -17,7 +19,7 @@ public class Main extends Application {
     @Override
     public void start(Stage stage) throws Exception {
         try {
-            SpaceInvaderController.getController(stage);
+            new LoadingScreen(stage, () -> SpaceInvaderController.getController(stage)).load();
         }
         catch (Exception e) {
             e.printStackTrace();
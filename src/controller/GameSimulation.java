@@ -0,0 +1,105 @@
+package controller;
+
+import model.GameSnapshot;
+import model.InGameModel;
+import model.SnapshotBuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the game simulation on its own thread at a fixed tick rate.
+ * After every batch of ticks a snapshot of the models is published for the view to draw,
+ * so a slow frame never holds back the simulation and a slow tick never blocks the JavaFX thread.
+ */
+public class GameSimulation implements Runnable {
+
+    private final SpaceInvaderController controller;
+    private final InGameModel gameModel;
+    private final SimulationClock clock = new SimulationClock();
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+    private volatile boolean running = false;
+    private Thread thread;
+
+    /**
+     * @param controller controller that runs the ticks
+     * @param gameModel model to take snapshots of
+     */
+    public GameSimulation(SpaceInvaderController controller, InGameModel gameModel) {
+        this.controller = controller;
+        this.gameModel = gameModel;
+    }
+
+    /**
+     * Starts the simulation thread unless it is already running or the game is over.
+     */
+    public void start() {
+        if (running || gameModel.getPlayerModel().getLifes() <= 0) {
+            return;
+        }
+        running = true;
+        clock.reset();
+        thread = new Thread(this, "Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for the current tick to finish.
+     * When this returns the models can safely be changed from another thread.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Runs ticks as the clock allows and publishes a snapshot after each batch.
+     * Stops by itself when the player is out of lives.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            int ticks = clock.advance(System.nanoTime());
+            for (int i = 0; i < ticks && running; i++) {
+                controller.updateSimulationTick();
+                if (gameModel.getPlayerModel().getLifes() <= 0) {
+                    running = false;
+                }
+            }
+            if (ticks > 0) {
+                publishSnapshot();
+            }
+            if (running) {
+                LockSupport.parkNanos(clock.getNanosUntilNextTick());
+            }
+        }
+    }
+
+    /**
+     * Copies the models into a new snapshot and hands it to the view.
+     * Must only be called from the simulation thread, or while the simulation is stopped.
+     */
+    public void publishSnapshot() {
+        GameSnapshot snapshot = snapshots.getBackSnapshot();
+        snapshot.capture(gameModel, controller.getTickCount(), controller.getUltActivatedTick());
+        snapshots.publish();
+    }
+
+    /**
+     * Newest snapshot, only to be used from the JavaFX thread.
+     *
+     * @return newest snapshot
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshots.getFrontSnapshot();
+    }
+}
@@ -0,0 +1,92 @@
+package controller;
+
+import model.Constants;
+import model.InGameModel;
+import model.PlayerShip;
+
+/**
+ * Runs the game simulation as fast as possible without any window, images or sound.
+ * A simple autopilot flies the player ship from side to side, shoots all the time and uses the ult when ready.
+ * When the player dies a new game is started. Prints how long the heavy parts of the tick took.
+ *
+ * Usage: HeadlessSimulation [game minutes to simulate]
+ */
+public class HeadlessSimulation {
+
+    private final SpaceInvaderController controller;
+    private final InGameModel gameModel;
+    private final SimulationProfiler profiler = new SimulationProfiler();
+
+    private boolean movingRight = true;
+    private int gamesPlayed = 0;
+    private long totalPoints = 0;
+    private int highestLevel = 1;
+
+    public static void main(String[] args) {
+        int gameMinutes = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        new HeadlessSimulation().run((long) gameMinutes * 60 * Constants.SIMULATION_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Creates a headless controller with sound turned off and the profiler attached.
+     */
+    public HeadlessSimulation() {
+        controller = SpaceInvaderController.getHeadlessController();
+        controller.setSoundOn(false);
+        controller.setProfiler(profiler);
+        gameModel = InGameModel.getGameModel();
+    }
+
+    /**
+     * Runs the given amount of ticks and prints a report.
+     *
+     * @param ticks ticks to simulate
+     */
+    public void run(long ticks) {
+        long start = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            updateAutopilot();
+            controller.updateSimulationTick();
+            highestLevel = Math.max(highestLevel, gameModel.getLevel());
+            if (gameModel.getPlayerModel().getLifes() <= 0) {
+                startNewGame();
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        double gameMinutes = (double) ticks / Constants.SIMULATION_TICKS_PER_SECOND / 60;
+        double wallSeconds = wallNanos / 1_000_000_000.0;
+        System.out.printf("Simulated %.1f game minutes in %.2f s (%.0f game minutes per wall clock minute)%n",
+                gameMinutes, wallSeconds, gameMinutes / wallSeconds * 60);
+        System.out.println("Games played: " + gamesPlayed + ", points: " + (totalPoints + gameModel.getPoints())
+                + ", highest level: " + highestLevel);
+        profiler.printReport();
+    }
+
+    /**
+     * Flies the player ship from side to side, shoots and ults when the ult is ready.
+     */
+    private void updateAutopilot() {
+        PlayerShip player = gameModel.getPlayerModel();
+        if (player.getItemCoordX() <= 0) {
+            movingRight = true;
+        }
+        else if (player.getItemCoordX() >= Constants.SCREEN_WIDTH - Constants.PLAYER_SHIP_WIDTH) {
+            movingRight = false;
+        }
+        controller.setMovingRight(movingRight);
+        controller.setMovingLeft(!movingRight);
+        controller.setShooting(true);
+        controller.setUltIsPressed(player.IsUltReady());
+    }
+
+    /**
+     * Counts the finished game and resets the controller and models.
+     */
+    private void startNewGame() {
+        gamesPlayed++;
+        totalPoints += gameModel.getPoints();
+        controller.resetController();
+        gameModel.resetAllModel();
+    }
+}
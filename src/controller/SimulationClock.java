@@ -0,0 +1,76 @@
+package controller;
+
+import model.Constants;
+
+/**
+ * Fixed timestep clock for the game simulation.
+ * Collects the time between frames and tells how many ticks of the model to run,
+ * so the game runs at the same speed on any screen refresh rate.
+ */
+public class SimulationClock {
+
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+
+    private long lastFrameTime = -1;
+    private long accumulator = 0;
+
+    /**
+     * Creates a clock with the tick length and catch up limit from the Constants class.
+     */
+    public SimulationClock() {
+        this(Constants.SIMULATION_TICK_NANOS, Constants.SIMULATION_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * @param tickNanos length of one tick in nanoseconds
+     * @param maxTicksPerFrame most ticks to run in one frame before time is dropped
+     */
+    public SimulationClock(long tickNanos, int maxTicksPerFrame) {
+        this.tickNanos = tickNanos;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Adds the time since last frame and returns how many ticks should be run.
+     * If the game is too far behind, the extra time is dropped instead of running a burst of ticks.
+     *
+     * @param now frame time in nanoseconds
+     * @return amount of ticks to run
+     */
+    public int advance(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            return 0;
+        }
+        accumulator += Math.max(0, now - lastFrameTime);
+        lastFrameTime = now;
+
+        long ticks = accumulator / tickNanos;
+        if (ticks > maxTicksPerFrame) {
+            ticks = maxTicksPerFrame;
+            accumulator %= tickNanos;
+        }
+        else {
+            accumulator -= ticks * tickNanos;
+        }
+        return (int) ticks;
+    }
+
+    /**
+     * Time left until the next tick is due, counted from the last call to advance.
+     *
+     * @return nanoseconds until next tick
+     */
+    public long getNanosUntilNextTick() {
+        return tickNanos - accumulator;
+    }
+
+    /**
+     * Forgets the last frame time, used when the game is paused or restarted.
+     */
+    public void reset() {
+        lastFrameTime = -1;
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,53 @@
+package controller;
+
+/**
+ * Collects how long the heavy parts of a simulation tick take.
+ * Used by the headless simulation to measure spawning, bullet collisions, enemy movement and the collision grid.
+ */
+public class SimulationProfiler {
+
+    public static final int SPAWN = 0;
+    public static final int BULLET_COLLISION = 1;
+    public static final int ENEMY_MOVEMENT = 2;
+    public static final int COLLISION_GRID = 3;
+
+    private static final String[] SECTION_NAMES = {"checkWhatToSpawn", "getBulletRemoveList", "checkIfEnemyIsmoving", "updateCollisionGrid"};
+
+    private final long[] totalNanos = new long[SECTION_NAMES.length];
+    private final long[] maxNanos = new long[SECTION_NAMES.length];
+    private long ticks = 0;
+
+    /**
+     * Adds time to a section.
+     *
+     * @param section SPAWN, BULLET_COLLISION, ENEMY_MOVEMENT or COLLISION_GRID
+     * @param nanos time spent in nanoseconds
+     */
+    public void record(int section, long nanos) {
+        totalNanos[section] += nanos;
+        if (nanos > maxNanos[section]) {
+            maxNanos[section] = nanos;
+        }
+    }
+
+    /**
+     * Counts one finished tick.
+     */
+    public void tickFinished() {
+        ticks++;
+    }
+
+    /**
+     * Prints total, average and worst time per section.
+     */
+    public void printReport() {
+        System.out.println("Ticks simulated: " + ticks);
+        for (int i = 0; i < SECTION_NAMES.length; i++) {
+            double totalMillis = totalNanos[i] / 1_000_000.0;
+            double averageMicros = ticks == 0 ? 0 : totalNanos[i] / 1000.0 / ticks;
+            double maxMicros = maxNanos[i] / 1000.0;
+            System.out.printf("%-22s total %10.1f ms   avg %8.2f us   max %10.1f us%n",
+                    SECTION_NAMES[i], totalMillis, averageMicros, maxMicros);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package controller;
 
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import model.GameLogger;
 import model.HighScore;
 import model.InGameModel;
 import model.SoundEffects;
 import view.SpaceInvaderInGameView;
 import view.SpaceInvaderMenuView;
 import view.ViewManager;
-import java.sql.SQLException;
 
 /**
  * This class takes care of the menu scene of the game, a menu with the options to start playing, view the high score,
@@ -49,7 +50,7 @@ public class SpaceInvaderButtonListener {
     public EventHandler<MouseEvent> enterMenu = new EventHandler<MouseEvent>() {
         @Override
         public void handle(MouseEvent e) {
-            System.out.println("enter menu");
+            GameLogger.getLogger().info("enter menu");
             SoundEffects.stopMusic();
             SpaceInvaderInGameView.getGameView().setAnimationTimer(false);
             SpaceInvaderController.getController().resetController();
@@ -61,18 +62,22 @@ public class SpaceInvaderButtonListener {
 
     /**
      * Passes on player alias and score to the high score class and disables the save button.
+     * If the score can't be saved the game view says so and the button can be used again.
      */
     public EventHandler<MouseEvent> saveScoreEvent = new EventHandler<MouseEvent>() {
         @Override
         public void handle(MouseEvent e) {
             String name = SpaceInvaderInGameView.getGameView().getEnterNameField().getText();
-            try {
-                HighScore.getHighScore().saveNewHighscore(name, InGameModel.getGameModel().getPoints());
-            } catch (SQLException ex) {
-                ex.printStackTrace();
-            }
-            System.out.println("Score saved");
             SpaceInvaderInGameView.getGameView().initializeDeathSubScene(true);
+            HighScore.getHighScore().saveNewHighscoreAsync(name, InGameModel.getGameModel().getPoints()).whenCompleteAsync((top10, error) -> {
+                if (error != null) {
+                    GameLogger.getLogger().error("Score not saved: " + error);
+                    SpaceInvaderInGameView.getGameView().showScoreNotSaved();
+                }
+                else {
+                    GameLogger.getLogger().info("Score saved");
+                }
+            }, Platform::runLater);
         }
     };
 
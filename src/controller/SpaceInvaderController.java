@@ -20,18 +20,29 @@ public class SpaceInvaderController {
     private static ViewManager view;
     private static InGameModel gameModel;
 
-    private boolean soundOn = true;
+    private SimulationProfiler profiler;
+
+    private volatile boolean soundOn = true;
 
     private boolean gamePaused = false;
 
-    private boolean isShooting = false;
-    private boolean isMovingLeft = false;
-    private boolean isMovingRight = false;
-    private boolean isMovingUp = false;
-    private boolean isMovingDown = false;
-    private boolean ultIsPressed = false;
+    // Set by key listeners on the JavaFX thread, read by the simulation thread
+    private volatile boolean isShooting = false;
+    private volatile boolean isMovingLeft = false;
+    private volatile boolean isMovingRight = false;
+    private volatile boolean isMovingUp = false;
+    private volatile boolean isMovingDown = false;
+    private volatile boolean isBoosting = false;
+    private volatile boolean ultIsPressed = false;
     private int spawnWave = 0;
 
+    private long tickCount = 0;
+    private long ultActivatedTick = -1;
+
+    private final SpatialGrid collisionGrid = new SpatialGrid(-Constants.SPATIAL_GRID_MARGIN, -Constants.SPATIAL_GRID_MARGIN,
+            Constants.SCREEN_WIDTH + Constants.SPATIAL_GRID_MARGIN, Constants.SCREEN_HEIGHT + Constants.SPATIAL_GRID_MARGIN,
+            Constants.SPATIAL_GRID_CELL_SIZE);
+
     /////////************** Getter and setters ***********************
 
     public static SpaceInvaderController getController(Stage stage) {
@@ -45,6 +56,30 @@ public class SpaceInvaderController {
         return controller;
     }
 
+    /**
+     * Creates a controller without any window, used to run the simulation headless.
+     *
+     * @return controller
+     */
+    public static SpaceInvaderController getHeadlessController() {
+        if (controller == null) {
+            controller = new SpaceInvaderController();
+        }
+        return controller;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getUltActivatedTick() {
+        return ultActivatedTick;
+    }
+
+    public void setProfiler(SimulationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     public boolean isSoundOn() {
         return soundOn;
     }
@@ -97,6 +132,14 @@ public class SpaceInvaderController {
         isMovingDown = movingDown;
     }
 
+    public boolean isBoosting() {
+        return isBoosting;
+    }
+
+    public void setBoosting(boolean boosting) {
+        isBoosting = boosting;
+    }
+
     public boolean isUltIsPressed() {
         return ultIsPressed;
     }
@@ -117,6 +160,13 @@ public class SpaceInvaderController {
         listener = SpaceInvaderListener.getListener();
     }
 
+    /**
+     * Constructor for headless use, sets gameModel only.
+     */
+    private SpaceInvaderController() {
+        gameModel = InGameModel.getGameModel();
+    }
+
     /**
      * Sets all movements to false and wave of enemies to 0.
      */
@@ -128,14 +178,115 @@ public class SpaceInvaderController {
         isMovingDown = false;
         ultIsPressed = false;
         spawnWave = 0;
+        tickCount = 0;
+        ultActivatedTick = -1;
     }
 
     /**
-     * Pauses game if gamePaused is set to true.
+     * Pauses game and soundtrack if gamePaused is set to true.
      */
     public void pauseGame() {
         gamePaused = gamePaused ? false : true;
-        SpaceInvaderInGameView.getGameView().setAnimationTimer(gamePaused);
+        SpaceInvaderInGameView.getGameView().setAnimationTimer(!gamePaused);
+        SoundEffects.pauseMusic(gamePaused);
+    }
+
+    /**
+     * Runs one tick of the game: shooting, movement, spawning, collisions and deaths.
+     */
+    public void updateSimulationTick() {
+        tickCount++;
+        gameModel.savePreviousPositions();
+
+        checkIfPlayerIsShooting();
+        checkIfEnemyIsShooting();
+
+        updateBullets();
+        updateWeaponsState();
+        updatePlayerMovement();
+        long start = System.nanoTime();
+        checkIfEnemyIsmoving();
+        record(SimulationProfiler.ENEMY_MOVEMENT, start);
+        moveMeteorModel();
+        start = System.nanoTime();
+        updateCollisionGrid();
+        record(SimulationProfiler.COLLISION_GRID, start);
+        checkIfMeteorCollide();
+        moveHpUpHeart();
+
+        start = System.nanoTime();
+        checkWhatToSpawn();
+        record(SimulationProfiler.SPAWN, start);
+
+        start = System.nanoTime();
+        removeBullets(getBulletRemoveList());
+        record(SimulationProfiler.BULLET_COLLISION, start);
+        removeBullets(checkIfMeteorShoot());
+        removeEnemies(getDeadEnemies());
+
+        if (checkIfPlayerIsUlting()) {
+            ultActivatedTick = tickCount;
+        }
+        SoundEffects.endTick();
+        if (profiler != null) {
+            profiler.tickFinished();
+        }
+    }
+
+    /**
+     * Removes bullets from the model.
+     *
+     * @param bulletsToRemove bullets to remove, may be null
+     */
+    private void removeBullets(ArrayList<IBullet> bulletsToRemove) {
+        if (bulletsToRemove == null) {
+            return;
+        }
+        for (IBullet bullet : bulletsToRemove) {
+            gameModel.removeBullet(bullet);
+            GameLogger.getLogger().debug("Bullet removed");
+        }
+    }
+
+    /**
+     * Removes enemies from the model.
+     *
+     * @param enemiesToRemove enemies to remove
+     */
+    private void removeEnemies(ArrayList<EnemyShip> enemiesToRemove) {
+        for (EnemyShip enemy : enemiesToRemove) {
+            gameModel.removeEnemyModel(enemy);
+            GameLogger.getLogger().debug("Enemy removed");
+        }
+    }
+
+    /**
+     * Rebuilds the collision grid from the player, the enemies and the meteor after they have moved.
+     * Enemies and meteors spawned later in the tick are added to it when they spawn.
+     */
+    private void updateCollisionGrid() {
+        collisionGrid.clear();
+        collisionGrid.insert(gameModel.getPlayerModel(), hitRadius(gameModel.getPlayerModel()));
+        EntityStore enemies = gameModel.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            double width = enemies.getWidth(i);
+            collisionGrid.insert(enemies.getItem(i), enemies.getCoordX(i) + width / 2, enemies.getCoordY(i) + enemies.getHeight(i) / 2, width / 5);
+        }
+        if (gameModel.getModelMeteor() != null) {
+            collisionGrid.insert(gameModel.getModelMeteor(), hitRadius(gameModel.getModelMeteor()));
+        }
+    }
+
+    /**
+     * Adds the time since start to a profiler section, if a profiler is set.
+     *
+     * @param section profiler section
+     * @param start start time in nanoseconds
+     */
+    private void record(int section, long start) {
+        if (profiler != null) {
+            profiler.record(section, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -209,7 +360,7 @@ public class SpaceInvaderController {
         gameModel.setModelMeteor(new Meteor());
         gameModel.getModelMeteor().setItemCoordX((Math.random() * (Constants.SCREEN_WIDTH - 150)) + 50 );
         gameModel.getModelMeteor().setItemCoordY((Math.random() * -600) - 200);
-        SpaceInvaderInGameView.getGameView().initializeMeteor();
+        collisionGrid.insert(gameModel.getModelMeteor(), hitRadius(gameModel.getModelMeteor()));
     }
 
     /**
@@ -275,6 +426,7 @@ public class SpaceInvaderController {
 
             enemyModelsToView.add(enemyShip);
             gameModel.addEnemyModel(enemyShip);
+            collisionGrid.insert(enemyShip, hitRadius(enemyShip));
         }
 
         return enemyModelsToView;
@@ -289,7 +441,6 @@ public class SpaceInvaderController {
         gameModel.setHeartHpUp(new HpUp());
         gameModel.getHeartHpUp().setItemCoordY(gameModel.getModelMeteor().getItemCoordY());
         gameModel.getHeartHpUp().setItemCoordX(gameModel.getModelMeteor().getItemCoordX());
-        SpaceInvaderInGameView.getGameView().initializeHpUpHeart();
     }
 
     /**
@@ -304,7 +455,7 @@ public class SpaceInvaderController {
             if (checkIfOutOfScreen(gameModel.getHeartHpUp().getItemCoordX(), gameModel.getHeartHpUp().getItemCoordY())) {
                 gameModel.setHeartHpUp(null);
              }
-            else if (gameModel.getPlayerModel().getItemWidth() / 5 + gameModel.getHeartHpUp().getItemWidth() / 5 > distanceBetween(gameModel.getHeartHpUp(), gameModel.getPlayerModel())) {
+            else if (collisionGrid.getFirstHit(gameModel.getHeartHpUp(), hitRadius(gameModel.getHeartHpUp()), PlayerShip.class) != null) {
                 if (gameModel.getPlayerModel().getLifes() < 3) {
                     SoundEffects.playSound(Constants.POWER_UP_SOUND_URL);
                     gameModel.getPlayerModel().setLifes(gameModel.getPlayerModel().getLifes() + 1);
@@ -322,40 +473,41 @@ public class SpaceInvaderController {
             gameModel.getModelMeteor().moveUp();
             if (gameModel.getModelMeteor().getItemCoordY() >= Constants.SCREEN_HEIGHT +300) {
                 gameModel.setModelMeteor(null);
-                System.out.println("meteor removed");
+                GameLogger.getLogger().debug("meteor removed");
             }
         }
     }
 
     /**
      * Loops through all enemy ships and changes direction if they've reached their borders.
+     * Runs over the enemy store slots rather than the enemy objects.
      */
     public void checkIfEnemyIsmoving() {
-        ArrayList<EnemyShip> enemyShips = gameModel.getEnemyModelList();
-        for (int i = 0; i < enemyShips.size() ; i++) {
+        EntityStore enemies = gameModel.getEnemyStore();
+        for (int i = 0; i < enemies.size() ; i++) {
 
-            if (enemyShips.get(i).getItemCoordY() <= Constants.SCREEN_HEIGHT / 2 && enemyShips.get(i).isMoveStateUpDown()==true){
-                enemyShips.get(i).moveUp();
-                if (enemyShips.get(i).getItemCoordY() >= Constants.SCREEN_HEIGHT /2) {
-                    enemyShips.get(i).setMoveStateUpDown(false);
+            if (enemies.getCoordY(i) <= Constants.SCREEN_HEIGHT / 2 && enemies.isMoveStateUpDown(i)){
+                enemies.moveUp(i);
+                if (enemies.getCoordY(i) >= Constants.SCREEN_HEIGHT /2) {
+                    enemies.setMoveStateUpDown(i, false);
                 }
             }
-            if (enemyShips.get(i).getItemCoordY() < Constants.SCREEN_HEIGHT && enemyShips.get(i).isMoveStateUpDown() ==false) {
-                enemyShips.get(i).moveDown();
-                if (enemyShips.get(i).getItemCoordY() <= 0) {
-                    enemyShips.get(i).setMoveStateUpDown(true);
+            if (enemies.getCoordY(i) < Constants.SCREEN_HEIGHT && !enemies.isMoveStateUpDown(i)) {
+                enemies.moveDown(i);
+                if (enemies.getCoordY(i) <= 0) {
+                    enemies.setMoveStateUpDown(i, true);
                 }
             }
-            if (enemyShips.get(i).getItemCoordX() <= (Constants.SCREEN_WIDTH -30) && enemyShips.get(i).isMoveStateRightLeft()==true){
-                enemyShips.get(i).moveLeft();
-                if (enemyShips.get(i).getItemCoordX() >= Constants.SCREEN_WIDTH -30) {
-                    enemyShips.get(i).setMoveStateRightLeft(false);
+            if (enemies.getCoordX(i) <= (Constants.SCREEN_WIDTH -30) && enemies.isMoveStateRightLeft(i)){
+                enemies.moveLeft(i);
+                if (enemies.getCoordX(i) >= Constants.SCREEN_WIDTH -30) {
+                    enemies.setMoveStateRightLeft(i, false);
                 }
             }
-            if (enemyShips.get(i).getItemCoordX() < Constants.SCREEN_WIDTH && enemyShips.get(i).isMoveStateRightLeft()==false){
-                enemyShips.get(i).moveRight();
-                if (enemyShips.get(i).getItemCoordX() <=0) {
-                    enemyShips.get(i).setMoveStateRightLeft(true);
+            if (enemies.getCoordX(i) < Constants.SCREEN_WIDTH && !enemies.isMoveStateRightLeft(i)){
+                enemies.moveRight(i);
+                if (enemies.getCoordX(i) <=0) {
+                    enemies.setMoveStateRightLeft(i, true);
                 }
             }
 
@@ -382,16 +534,17 @@ public class SpaceInvaderController {
 
     /**
      * When space is down, check if the weapon manages to shoot.
+     * Plays the laser sound only if a bullet was fired.
      *
      * @return current bullet
      */
     public IBullet checkIfPlayerIsShooting() {
         if (isShooting) {
             IBullet currentBullet = gameModel.getPlayerModel().performShootingAction();
-            new SoundEffects().playSound(Constants.LASERSOUNDURL_1);//PlayerShoot soundEffect.KM
             if (currentBullet != null) {
+                new SoundEffects().playSound(Constants.LASERSOUNDURL_1);//PlayerShoot soundEffect.KM
                 gameModel.addBullets(currentBullet);
-                System.out.println("bullet added to list");
+                GameLogger.getLogger().debug("bullet added to list");
                 return currentBullet;
             }
         }
@@ -450,9 +603,10 @@ public class SpaceInvaderController {
     }
 
     /**
-     * Checks if player is moving left, right, up or down.
+     * Sets the player's speed from the boost key and checks if player is moving left, right, up or down.
      */
     public void updatePlayerMovement() {
+        gameModel.getPlayerModel().setMovementSpeed(isBoosting ? Constants.SCREEN_HEIGHT *0.016 : Constants.PLAYER_SHIP_MOVEMENT_SPEED);
         checkIfPlayerIsMovingLeft();
         checkIfPlayerIsMovingRight();
         checkIfPlayerIsMovingUp();
@@ -463,10 +617,7 @@ public class SpaceInvaderController {
      * Moving all bullets forward
      */
     public void updateBullets() {
-        for (IBullet bullet : gameModel.getBulletsModelList()) {
-            OnScreenItems itemBullet = (OnScreenItems) bullet;
-            itemBullet.moveUp();
-        }
+        gameModel.getBulletStore().moveAllUp();
     }
 
     /**
@@ -499,7 +650,7 @@ public class SpaceInvaderController {
                     OnScreenItems bulletsToRemoveNow = (OnScreenItems) gameModel.getBulletsModelList().get(j);
                     if (!bulletsToRemoveNow.isFacingPlayer()) {
                         if (gameModel.getModelMeteor() != null) {
-                            if (gameModel.getModelMeteor().getItemWidth() / 5 + bulletsToRemoveNow.getItemWidth() / 5 > distanceBetween(bulletsToRemoveNow, gameModel.getModelMeteor())) {
+                            if (collisionGrid.isHit(gameModel.getModelMeteor(), bulletsToRemoveNow, hitRadius(bulletsToRemoveNow))) {
                                 createHpUpHeart();
                                 gameModel.setModelMeteor(null);
                                 bulletsToRemove.add((IBullet) bulletsToRemoveNow);
@@ -518,7 +669,7 @@ public class SpaceInvaderController {
      */
     public void checkIfMeteorCollide() {
         if (gameModel.getModelMeteor()!=null) {
-            if (gameModel.getPlayerModel().getItemWidth() / 5 + gameModel.getModelMeteor().getItemWidth() / 5 > distanceBetween(gameModel.getModelMeteor(), gameModel.getPlayerModel())) {
+            if (collisionGrid.getFirstHit(gameModel.getModelMeteor(), hitRadius(gameModel.getModelMeteor()), PlayerShip.class) != null) {
                 gameModel.getPlayerModel().looseLife(1);
                 gameModel.setModelMeteor(null);
             }
@@ -528,31 +679,35 @@ public class SpaceInvaderController {
     /**
      *  Checks if bullet is out of screen and returns the index of the bullets to be removed in image view list.
      *  Checks if bullet collided with player ship or enemy ship and removes one life if true.
+     *  Only the enemies in the grid cells around the bullet are tested.
      *
      * @return bulletsToRemove
      */
     public ArrayList<IBullet> getBulletRemoveList() {
         ArrayList<IBullet> bulletsToRemove = new ArrayList<>();
-        for (int i = 0; i < gameModel.getBulletsModelList().size(); i++) {
-            OnScreenItems itemBullet = (OnScreenItems) gameModel.getBulletsModelList().get(i);
-            if (checkIfOutOfScreen(itemBullet.getItemCoordX(), itemBullet.getItemCoordY())) {
-                bulletsToRemove.add(gameModel.getBulletsModelList().get(i));
+        EntityStore bullets = gameModel.getBulletStore();
+        for (int i = 0; i < bullets.size(); i++) {
+            double bulletX = bullets.getCoordX(i);
+            double bulletY = bullets.getCoordY(i);
+            if (checkIfOutOfScreen(bulletX, bulletY)) {
+                bulletsToRemove.add((IBullet) bullets.getItem(i));
                 continue;
             }
 
-            if (itemBullet.isFacingPlayer()) {
-                if (gameModel.getPlayerModel().getItemWidth() / 5 + itemBullet.getItemWidth() / 5 > distanceBetween(itemBullet, gameModel.getPlayerModel())) {
+            double width = bullets.getWidth(i);
+            double centerX = bulletX + width / 2;
+            double centerY = bulletY + bullets.getHeight(i) / 2;
+            if (bullets.isFacingPlayer(i)) {
+                if (collisionGrid.getFirstHit(centerX, centerY, width / 5, PlayerShip.class) != null) {
                     gameModel.getPlayerModel().looseLife(1);
-                    bulletsToRemove.add(gameModel.getBulletsModelList().get(i));
+                    bulletsToRemove.add((IBullet) bullets.getItem(i));
                     continue;
                 }
             } else {
-                for (EnemyShip enemy : gameModel.getEnemyModelList()) {
-                    if (enemy.getItemWidth() / 5 + itemBullet.getItemWidth() / 5 > distanceBetween(itemBullet, enemy)) {
-                        enemy.looseLife(1);
-                        bulletsToRemove.add(gameModel.getBulletsModelList().get(i));
-                        break;
-                    }
+                EnemyShip enemy = (EnemyShip) collisionGrid.getFirstHit(centerX, centerY, width / 5, EnemyShip.class);
+                if (enemy != null) {
+                    enemy.looseLife(1);
+                    bulletsToRemove.add((IBullet) bullets.getItem(i));
                 }
             }
 
@@ -573,9 +728,10 @@ public class SpaceInvaderController {
     public ArrayList<EnemyShip> getDeadEnemies() {
         ArrayList<EnemyShip> deadEnemyList = new ArrayList<>();
 
-        for (EnemyShip enemy : gameModel.getEnemyModelList()) {
-            if (enemy.getLifes() < 1) {
-                deadEnemyList.add(enemy);
+        EntityStore enemies = gameModel.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.getLifes(i) < 1) {
+                deadEnemyList.add((EnemyShip) enemies.getItem(i));
                 gameModel.addPoints(1);
                 if (!ultIsPressed) {
                     gameModel.getPlayerModel().addToUltCounter();
@@ -591,9 +747,7 @@ public class SpaceInvaderController {
      */
     public void updateWeaponsState() {
         gameModel.getPlayerModel().getWeapon().addToReadyToShoot();
-        for (EnemyShip enemyShip : gameModel.getEnemyModelList()) {
-            enemyShip.getWeapon().addToReadyToShoot();
-        }
+        gameModel.getEnemyStore().addToReadyToShoot();
     }
 
     /**
@@ -607,20 +761,14 @@ public class SpaceInvaderController {
         gameModel.getPlayerModel().resetUltCounter();
     }
 
-    //Doing pythagoras rate to check distance between positions together with height and width of the objects..
-    private double distanceBetween(double x1, double y1, double x2, double y2, double height1, double height2, double width1, double width2) {
-        return Math.sqrt(Math.pow((x1 + (width1 / 2)) - (x2 + (width2 / 2)), 2) + Math.pow((y1 + (height1 / 2)) - (y2 + (height2 / 2)), 2));
-    }
-
     /**
-     * Calculates the distance between two on screen objects based on their positions.
+     * Radius of the circle used when checking if an item collides with something.
      *
-     * @param firstObjc first object
-     * @param secondObjc second object
-     * @return result of the calculation
+     * @param item on screen item
+     * @return a fifth of the item's width
      */
-    private double distanceBetween(OnScreenItems firstObjc, OnScreenItems secondObjc) {
-        return Math.sqrt(Math.pow((firstObjc.getItemCoordX() + (firstObjc.getItemWidth() / 2)) - (secondObjc.getItemCoordX() + (secondObjc.getItemWidth() / 2)), 2) + Math.pow((firstObjc.getItemCoordY() + (firstObjc.getItemHeight() / 2)) - (secondObjc.getItemCoordY() + (secondObjc.getItemHeight() / 2)), 2));
+    private double hitRadius(OnScreenItems item) {
+        return item.getItemWidth() / 5;
     }
 
 
@@ -3,8 +3,7 @@ package controller;
 import javafx.event.EventHandler;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
-import model.Constants;
-import model.InGameModel;
+import model.GameLogger;
 
 /**
  * Handles all events for pressed and released keys.
@@ -38,7 +37,7 @@ public class SpaceInvaderListener implements EventHandler<KeyEvent> {
         if (event.getEventType().equals(KeyEvent.KEY_PRESSED)) {
             if (event.getCode() == KeyCode.SPACE) {
                 SpaceInvaderController.getController().setShooting(true);
-                System.out.println("pressed space");
+                GameLogger.getLogger().debug("pressed space");
             }
             if (event.getCode() == KeyCode.A){
                 SpaceInvaderController.getController().setMovingLeft(true);
@@ -53,7 +52,7 @@ public class SpaceInvaderListener implements EventHandler<KeyEvent> {
                 SpaceInvaderController.getController().setMovingDown(true);
             }
             if (event.getCode() ==KeyCode.SHIFT)
-                InGameModel.getGameModel().getPlayerModel().setMovementSpeed(Constants.SCREEN_HEIGHT *0.016);
+                SpaceInvaderController.getController().setBoosting(true);
             if (event.getCode() == KeyCode.ESCAPE) {
                 SpaceInvaderController.getController().pauseGame();
             }
@@ -78,7 +77,7 @@ public class SpaceInvaderListener implements EventHandler<KeyEvent> {
                 SpaceInvaderController.getController().setMovingDown(false);
             }
             if (event.getCode() == KeyCode.SHIFT) {
-                InGameModel.getGameModel().getPlayerModel().setMovementSpeed(Constants.PLAYER_SHIP_MOVEMENT_SPEED);
+                SpaceInvaderController.getController().setBoosting(false);
             }
             if (event.getCode() == KeyCode.X) {
                 SpaceInvaderController.getController().setUltIsPressed(false);
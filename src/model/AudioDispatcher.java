@@ -0,0 +1,51 @@
+package model;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs audio work on its own thread. Game and JavaFX threads post events to a lock-free queue
+ * and return right away, the audio thread drains the queue in the order the events were posted,
+ * so a slow audio device or a file being read never holds up a frame.
+ */
+public class AudioDispatcher {
+
+    private final ConcurrentLinkedQueue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private final Thread audioThread;
+
+    /**
+     * Starts the audio thread, it is a daemon so it doesn't keep the program running.
+     */
+    public AudioDispatcher() {
+        audioThread = new Thread(this::drainEvents, "Audio");
+        audioThread.setDaemon(true);
+        audioThread.start();
+    }
+
+    /**
+     * Queues an event for the audio thread and wakes it up. Never blocks.
+     *
+     * @param event audio work to run
+     */
+    public void post(Runnable event) {
+        events.offer(event);
+        LockSupport.unpark(audioThread);
+    }
+
+    /**
+     * Runs queued events until the queue is empty, then sleeps until the next event is posted.
+     */
+    private void drainEvents() {
+        while (true) {
+            Runnable event;
+            while ((event = events.poll()) != null) {
+                try {
+                    event.run();
+                } catch (Exception e) {
+                    GameLogger.getLogger().error("Audio event failed: " + e);
+                }
+            }
+            LockSupport.park(this);
+        }
+    }
+}
@@ -28,18 +28,18 @@ public class BossWeapon extends Weapons {
      */
     @Override
     public IBullet shoot() {
-        if (readyToShoot >= shootInterval) {
+        if (getReadyToShoot() >= shootInterval) {
             double setBulletX = (theShip.getItemCoordX() + theShip.getItemWidth()/2) - 40;
             double offsetY = (theShip.getItemHeight()/2) -40;
             double createPosY = isFacingPlayer ? offsetY : -offsetY;
             if (amountOfShots > 1) {
-                readyToShoot = 0;
+                setReadyToShoot(0);
                 amountOfShots = 0;
             }
             else {
                 amountOfShots++;
             }
-            return new LaserBullet(setBulletX + (amountOfShots * 40),(theShip.getItemCoordY()  + createPosY), isFacingPlayer);
+            return BulletPool.getBulletPool().obtain(setBulletX + (amountOfShots * 40),(theShip.getItemCoordY()  + createPosY), isFacingPlayer);
         }
         return null;
     }
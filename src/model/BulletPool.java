@@ -0,0 +1,63 @@
+package model;
+
+/**
+ * Keeps bullets that have left the game so weapons can fire them again instead of creating new ones.
+ * Holds at most Constants.BULLET_POOL_SIZE bullets, extra bullets are left to the garbage collector.
+ * Only used from the simulation thread.
+ */
+public class BulletPool {
+
+    private static BulletPool bulletPool;
+
+    private final LaserBullet[] freeBullets = new LaserBullet[Constants.BULLET_POOL_SIZE];
+    private int freeCount = 0;
+
+    /**
+     * Creates the bullet pool unless there is one already.
+     * @return bulletPool
+     */
+    public static BulletPool getBulletPool() {
+        if (bulletPool == null) {
+            bulletPool = new BulletPool();
+        }
+        return bulletPool;
+    }
+
+    /**
+     * Fills the pool so the first waves don't have to create bullets either.
+     */
+    private BulletPool() {
+        while (freeCount < freeBullets.length) {
+            freeBullets[freeCount++] = new LaserBullet(0, 0, false);
+        }
+    }
+
+    /**
+     * Takes a bullet from the pool and places it, or creates one if the pool is empty.
+     *
+     * @param itemCoordX x position
+     * @param itemCoordY y position
+     * @param isFacingPlayer direction
+     * @return bullet ready to be added to the game
+     */
+    public LaserBullet obtain(double itemCoordX, double itemCoordY, boolean isFacingPlayer) {
+        if (freeCount == 0) {
+            return new LaserBullet(itemCoordX, itemCoordY, isFacingPlayer);
+        }
+        LaserBullet bullet = freeBullets[--freeCount];
+        freeBullets[freeCount] = null;
+        bullet.fire(itemCoordX, itemCoordY, isFacingPlayer);
+        return bullet;
+    }
+
+    /**
+     * Gives a bullet back to the pool. The bullet must not be used by the game any more.
+     *
+     * @param bullet bullet that has been removed from the game
+     */
+    public void recycle(IBullet bullet) {
+        if (bullet instanceof LaserBullet && freeCount < freeBullets.length) {
+            freeBullets[freeCount++] = (LaserBullet) bullet;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of database connections. Connections are opened when first needed and then reused,
+ * and each keeps its prepared statements so the same SQL is only prepared once per connection.
+ * A connection that has been idle for Constants.DB_VALIDATE_AFTER_MS is checked with the database before it is handed out again,
+ * and one marked broken after a failed statement is closed instead of reused.
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Semaphore permits;
+    private final ArrayBlockingQueue<PooledConnection> idleConnections;
+
+    /**
+     * @param url jdbc url
+     * @param username database user
+     * @param password password of the user
+     * @param size largest number of connections open at the same time
+     */
+    public ConnectionPool(String url, String username, String password, int size) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.permits = new Semaphore(size, true);
+        this.idleConnections = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Gives a working connection, reusing an idle one if there is one. Waits up to Constants.DB_POOL_TIMEOUT_MS
+     * if all connections are in use. Close the connection to give it back to the pool.
+     *
+     * @return connection
+     * @throws SQLException if no connection could be had
+     */
+    public PooledConnection getConnection() throws SQLException {
+        try {
+            if (!permits.tryAcquire(Constants.DB_POOL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("No database connection available");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection connection = idleConnections.poll();
+            while (connection != null && !connection.isUsable()) {
+                connection.closeConnection();
+                connection = idleConnections.poll();
+            }
+            if (connection == null) {
+                connection = new PooledConnection(DriverManager.getConnection(url, username, password));
+            }
+            return connection;
+        } catch (SQLException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection connection) {
+        connection.idleSince = System.currentTimeMillis();
+        if (connection.broken || !idleConnections.offer(connection)) {
+            connection.closeConnection();
+        }
+        permits.release();
+    }
+
+    /**
+     * A connection from the pool with its prepared statements. Closing it gives it back to the pool.
+     */
+    public class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final HashMap<String, PreparedStatement> statements = new HashMap<>();
+        private long idleSince = System.currentTimeMillis();
+        private boolean broken = false;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Gives the prepared statement for the SQL, preparing it the first time on this connection.
+         *
+         * @param sql statement with ? for parameters
+         * @return statement with its parameters cleared
+         * @throws SQLException if the statement couldn't be prepared
+         */
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            else {
+                statement.clearParameters();
+            }
+            return statement;
+        }
+
+        /**
+         * Marks the connection as failed, so closing it closes it for good instead of giving it back to the pool.
+         * Call when a statement on it threw an SQLException.
+         */
+        public void markBroken() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+
+        private boolean isUsable() {
+            try {
+                if (connection.isClosed()) {
+                    return false;
+                }
+                return System.currentTimeMillis() - idleSince < Constants.DB_VALIDATE_AFTER_MS || connection.isValid(2);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closeConnection() {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                GameLogger.getLogger().error(e.toString());
+            }
+        }
+    }
+}
@@ -11,6 +11,16 @@ public class Constants {
     public final static double SCREEN_HEIGHT = 600;
     public final static double SCREEN_WIDTH = 900;
 
+    public final static int SIMULATION_TICKS_PER_SECOND = 60;
+    public final static long SIMULATION_TICK_NANOS = 1_000_000_000L / SIMULATION_TICKS_PER_SECOND;
+    public final static int SIMULATION_MAX_TICKS_PER_FRAME = 5;
+
+    // Draws bullets, enemies, meteors and hearts on one canvas instead of one image view each, turned on with -Dpixelsurvivor.canvas=true
+    public final static boolean USE_CANVAS_RENDERER = Boolean.getBoolean("pixelsurvivor.canvas");
+
+    public final static double SPATIAL_GRID_CELL_SIZE = 40;
+    public final static double SPATIAL_GRID_MARGIN = 100;
+
     public final static String PLAYER_SHIP_URL = "model/resources/player.png";
     public final static String GREEN_PLAYER_SHIP_URL = "model/resources/greenShip.png";
     public final static String RED_PLAYER_SHIP_URL = "model/resources/redShip.png";
@@ -56,7 +66,13 @@ public class Constants {
     public final static int ENEMY_BIG_BOSS_LIVES = 100;
     public final static double ENEMY_BIG_BOSS_SHOOTING_INTERVAL = 40;
 
-    public final static String IN_GAME_BACK_GROUND_IMAGE = "model/resources/inGameBackground.png";
+    // The background strip split into BACKGROUND_TILE_HEIGHT rows per file, numbered from the top
+    public final static String IN_GAME_BACK_GROUND_TILES = "model/resources/inGameBackground/tile%02d.png";
+    public final static int BACKGROUND_TILE_HEIGHT = 600;
+    public final static double BACKGROUND_FIRST_START_Y = -17380;
+    public final static double BACKGROUND_SECOND_START_Y = -34780;
+
+    public final static long SPRITE_CACHE_BUDGET_BYTES = 24L * 1024 * 1024;
 
 
     public final static String METEOR_IMAGE = "model/resources/meteor.png";
@@ -66,10 +82,12 @@ public class Constants {
 
     public final static String ENEMY_BULLET_URL = "model/resources/enemyLaserBullet.png";
     public final static String LASER_BULLET_URL = "model/resources/bulletShot.png";
+    public final static String MISSILE_URL = "model/resources/misil.png";
     public final static double LASER_BULLET_HEIGHT = SCREEN_HEIGHT * 0.04;
     public final static double LASER_BULLET_WIDTH = SCREEN_WIDTH * 0.025;
     public final static double LASER_BULLET_MOVEMENT_SPEED = SCREEN_HEIGHT * 0.016;
     public final static double LASER_BULLET_SHOOT_INTERVAL = 15;
+    public final static int BULLET_POOL_SIZE = 256;
 
     public final static String HEART_URL = "model/resources/heart.png";
     public final static double HEART_START_X = SCREEN_WIDTH * 0.87;
@@ -90,15 +108,37 @@ public class Constants {
     public static final String BUTTON_BG_CLICKED_URL = "model/resources/buttonOnClick.png"; //TODO
     public static final String BUTTON_BG_URL = "model/resources/buttonImg.png"; // TODO
     public static final double MENU_BUTTON_WIDTH = SCREEN_WIDTH * 0.15;
+    public static final double MENU_BUTTON_HEIGHT = SCREEN_HEIGHT * 0.07;
     public static final double MENU_BUTTON_STARTING_X_POS = SCREEN_WIDTH * 0.1;
     public static final double MENU_BUTTON_STARTING_Y_POS = SCREEN_HEIGHT * 0.7;
 
 
-    public static final String LASERSOUNDURL_1 = "src\\model\\resources\\Laser1.wav";
-    public static final String LASERSOUNDURL_2 = "src\\model\\resources\\Laser2.wav";
-    public static final String ENEMY_EXPLOSION = "src\\model\\resources\\Explosion.wav";
-    public static final String ULT_SOUND_URL = "src\\model\\resources\\Explosion2.wav";
-    public static final String POWER_UP_SOUND_URL = "src\\model\\resources\\Powerup.wav";
-    public static final String PLASMA_SOUND_URL = "src\\model\\resources\\Sci-Fi Plasma.mp3";
-    public static final String SOUNDTRACK = "src\\model\\resources\\Soundtrack.wav";
+    public static final String LASERSOUNDURL_1 = "model/resources/Laser1.wav";
+    public static final String LASERSOUNDURL_2 = "model/resources/Laser2.wav";
+    public static final String ENEMY_EXPLOSION = "model/resources/Explosion.wav";
+    public static final String ULT_SOUND_URL = "model/resources/Explosion2.wav";
+    public static final String POWER_UP_SOUND_URL = "model/resources/Powerup.wav";
+    public static final String PLASMA_SOUND_URL = "model/resources/Sci-Fi Plasma.mp3";
+    public static final String SOUNDTRACK = "model/resources/Soundtrack.wav";
+    public static final int MAX_SOUND_VOICES = 8;
+    public static final int MUSIC_BUFFER_BYTES = 8192;
+
+    public static final int LOG_LEVEL = GameLogger.INFO;
+    public static final int LOG_BUFFER_SIZE = 1024;
+    public static final long LOG_FLUSH_INTERVAL_MS = 100;
+
+    public static final int DB_POOL_SIZE = 4;
+    public static final long DB_POOL_TIMEOUT_MS = 5000;
+    public static final long DB_VALIDATE_AFTER_MS = 30000;
+    public static final int HIGH_SCORE_THREADS = 2;
+    // Keep scores in local files instead of the MySQL database, for playing without a database server
+    public static final boolean USE_FILE_HIGH_SCORES = false;
+    public static final String HIGH_SCORE_DIRECTORY = System.getProperty("user.home") + "/.pixelsurvivor";
+    public static final long HIGH_SCORE_CACHE_TTL_MS = 5 * 60 * 1000;
+    public static final String SCORE_JOURNAL_FILE = "pending-scores.journal";
+    public static final int SCORE_BATCH_SIZE = 50;
+    public static final long SCORE_FLUSH_RETRY_MS = 1000;
+    public static final long SCORE_FLUSH_MAX_RETRY_MS = 60000;
+    public static final int LEADERBOARD_PAGE_SIZE = 50;
+    public static final int LEADERBOARD_PREFETCH = 10;
 }
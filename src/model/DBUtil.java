@@ -1,81 +1,158 @@
 package model;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is a utility class for the database.
  * It has methods to add new data after the game is finished and to display top 10.
+ * Connections come from a pool and are given back when a method is done.
+ * Used behind the score journal when Constants.USE_FILE_HIGH_SCORES is false.
  *
  * @author Isabelle Romhagen
  * @version 1.2
  */
-public class DBUtil {
+public class DBUtil implements IHighScoreRepository {
 
     public static InGameModel model;
 
     private static final String USERNAME = "root";
     private static final String PASSWORD = "root";
-    private static final String CONNECTION = "jdbc:mysql://localhost:3316/highscoredb?useUnicode=true&useJDBCCompliantTimezoneShift=true&useLegacyDatetimeCode=false&serverTimezone=UTC";
+    private static final String CONNECTION = "jdbc:mysql://localhost:3316/highscoredb?useUnicode=true&useJDBCCompliantTimezoneShift=true&useLegacyDatetimeCode=false&serverTimezone=UTC&rewriteBatchedStatements=true";
+
+    private static final String INSERT_SCORE = "INSERT INTO highscore (name, score) VALUES (?, ?)";
+    private static final String SELECT_TOP_SCORES = "SELECT id, name, score FROM highscore ORDER BY score DESC, id LIMIT ?";
+    private static final String SELECT_SCORES_AFTER = "SELECT id, name, score FROM highscore"
+            + " WHERE score < ? OR (score = ? AND id > ?) ORDER BY score DESC, id LIMIT ?";
+
+    private static final ConnectionPool pool = new ConnectionPool(CONNECTION, USERNAME, PASSWORD, Constants.DB_POOL_SIZE);
 
     /**
-     * This method establishes the connection to the database using the username,
-     * password and connection link specified above and saves the player alias and score into it.
-     * Then it calls updateHighscore().
+     * This method saves the player alias and score into the database.
      *
      * @param name Player alias from user input.
      * @param score Player's score obtained from score count at the end of the game.
-     * @exception SQLException
+     * @return true if the score was saved
      * */
-    void handleHighScore(String name, int score) throws SQLException {
-        System.out.println("Connecting to database...");
-
+    @Override
+    public boolean saveScore(String name, int score) {
         try {
-
-            Connection connection = DriverManager.getConnection(CONNECTION, USERNAME, PASSWORD);
-            PreparedStatement st = connection.prepareStatement("INSERT INTO highscore (name, score)" + "VALUES (?, ?)");
-
-
-            st.setString(1, name);
-            st.setInt(2, score);
-
-            st.execute();
-
+            saveScores(Collections.singletonList(new HighScoreBean(name, score)));
+            return true;
         }
         catch(Exception e){
-            System.err.println(e);
+            GameLogger.getLogger().error(e.toString());
         }
-        System.out.println("Saved to database");
-        updateHighScore();
+        return false;
     }
 
     /**
-     *This method connects to the database, orders all scores by highest score and returns the 10 highest scores.
+     * This method saves several scores as one batch of the same statement, which the driver sends as one insert.
      *
-     * @return top10 the 10 highest scores
+     * @param scores Player aliases and scores.
+     * @exception SQLException if the scores couldn't be saved
      */
+    public void saveScores(List<HighScoreBean> scores) throws SQLException {
+        GameLogger.getLogger().info("Saving to database...");
+
+        try (ConnectionPool.PooledConnection connection = pool.getConnection()) {
+            try {
+                PreparedStatement st = connection.prepareStatement(INSERT_SCORE);
+                // The statement is reused, drop anything left from a batch that failed
+                st.clearBatch();
+                for (HighScoreBean score : scores) {
+                    st.setString(1, score.getUsername());
+                    st.setInt(2, score.getScore());
+                    st.addBatch();
+                }
+                st.executeBatch();
+            }
+            catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
+        }
+        GameLogger.getLogger().info("Saved to database");
+    }
 
-    HighScoreBean[] updateHighScore() {
-        HighScoreBean[] top10 = new HighScoreBean[10];
-        System.out.println("Connecting to database...");
-        System.out.println("Current high score:");
-        try{
-
-            Connection conn = DriverManager.getConnection(CONNECTION, USERNAME, PASSWORD);
-            String query = "SELECT * FROM highscore" +" ORDER BY score DESC" + " LIMIT 10";
-            Statement st = conn.createStatement();
-            ResultSet rs = st.executeQuery(query);
-            int currentBean = 0;
-
-            while (rs.next())
-            {
-                top10[currentBean] = new HighScoreBean(rs.getString("name"), rs.getInt("score"));
-                currentBean++;
+    /**
+     *This method takes a connection from the pool, orders all scores by highest score and returns the highest scores.
+     *
+     * @param count number of scores to give
+     * @return the highest scores
+     * @throws HighScoreException if the scores couldn't be read
+     */
+    @Override
+    public HighScoreBean[] getTopScores(int count) {
+        HighScoreBean[] topScores = new HighScoreBean[count];
+        GameLogger.getLogger().info("Reading current high score");
+        try (ConnectionPool.PooledConnection connection = pool.getConnection()) {
+            try {
+                PreparedStatement st = connection.prepareStatement(SELECT_TOP_SCORES);
+                st.setInt(1, count);
+                try (ResultSet rs = st.executeQuery()) {
+                    int currentBean = 0;
+
+                    while (rs.next() && currentBean < count)
+                    {
+                        topScores[currentBean] = new HighScoreBean(rs.getLong("id"), rs.getString("name"), rs.getInt("score"));
+                        currentBean++;
+                    }
+                }
             }
+            catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
+        }
+        catch (SQLException e) {
+            throw new HighScoreException("Could not read high scores", e);
+        }
+        return topScores;
+    }
 
+    /**
+     * This method reads the scores that come after a score on the leaderboard. Uses the (score, id) index
+     * to start right after the given score, so a page costs the same no matter how far down it is.
+     *
+     * @param after last score of the previous page, null for the first page
+     * @param count largest number of scores to give
+     * @return the scores after the given one
+     * @throws HighScoreException if the scores couldn't be read
+     */
+    @Override
+    public HighScoreBean[] getScoresAfter(HighScoreBean after, int count) {
+        ArrayList<HighScoreBean> scores = new ArrayList<>();
+        try (ConnectionPool.PooledConnection connection = pool.getConnection()) {
+            try {
+                PreparedStatement st;
+                if (after == null) {
+                    st = connection.prepareStatement(SELECT_TOP_SCORES);
+                    st.setInt(1, count);
+                }
+                else {
+                    st = connection.prepareStatement(SELECT_SCORES_AFTER);
+                    st.setInt(1, after.getScore());
+                    st.setInt(2, after.getScore());
+                    st.setLong(3, after.getId());
+                    st.setInt(4, count);
+                }
+                try (ResultSet rs = st.executeQuery()) {
+                    while (rs.next()) {
+                        scores.add(new HighScoreBean(rs.getLong("id"), rs.getString("name"), rs.getInt("score")));
+                    }
+                }
+            }
+            catch (SQLException e) {
+                connection.markBroken();
+                throw e;
+            }
         }
-        catch (Exception e) {
-            System.err.println(e);
+        catch (SQLException e) {
+            throw new HighScoreException("Could not read high scores", e);
         }
-        return top10;
+        return scores.toArray(new HighScoreBean[0]);
     }
 
-}
\ No newline at end of file
+}
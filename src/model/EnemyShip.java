@@ -33,7 +33,7 @@ public class EnemyShip extends Ship{
      * @return moveStateUpDown
      */
     public boolean isMoveStateUpDown() {
-        return moveStateUpDown;
+        return store != null ? store.moveStateUpDown[slot] : moveStateUpDown;
     }
 
     /**
@@ -41,6 +41,10 @@ public class EnemyShip extends Ship{
      * @param moveStateUpDown defines if the unit should move up/down on the screen.
      */
     public void setMoveStateUpDown(boolean moveStateUpDown) {
+        if (store != null) {
+            store.moveStateUpDown[slot] = moveStateUpDown;
+            return;
+        }
         this.moveStateUpDown = moveStateUpDown;
     }
 
@@ -49,14 +53,32 @@ public class EnemyShip extends Ship{
      * @return moveStateRightLeft defines if the unit should move right/left on the screen.
      */
     public boolean isMoveStateRightLeft() {
-        return moveStateRightLeft;
+        return store != null ? store.moveStateRightLeft[slot] : moveStateRightLeft;
     }
 
     /**
      * @param moveStateRightLeft setter for moveStateRightLeft.
      */
     public void setMoveStateRightLeft(boolean moveStateRightLeft) {
+        if (store != null) {
+            store.moveStateRightLeft[slot] = moveStateRightLeft;
+            return;
+        }
         this.moveStateRightLeft = moveStateRightLeft;
     }
 
+    @Override
+    void copyTo(EntityStore store, int slot) {
+        super.copyTo(store, slot);
+        store.moveStateUpDown[slot] = moveStateUpDown;
+        store.moveStateRightLeft[slot] = moveStateRightLeft;
+    }
+
+    @Override
+    void copyFrom(EntityStore store, int slot) {
+        super.copyFrom(store, slot);
+        moveStateUpDown = store.moveStateUpDown[slot];
+        moveStateRightLeft = store.moveStateRightLeft[slot];
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Gives every item in the game a handle made of a slot and a generation. Slots of removed items are reused,
+ * so the view can keep the node of an item in an array at its slot instead of looking it up.
+ * Releasing a handle bumps the generation of its slot, so an old handle never matches the item that gets the slot next.
+ * Only used from the simulation thread.
+ */
+public class EntityHandles {
+
+    public static final long NO_HANDLE = -1;
+
+    private static EntityHandles entityHandles;
+
+    private int[] generations = new int[64];
+    private int[] freeSlots = new int[64];
+    private int freeCount = 0;
+    private int slotCount = 0;
+
+    /**
+     * Creates the handle registry unless there is one already.
+     * @return entityHandles
+     */
+    public static synchronized EntityHandles getEntityHandles() {
+        if (entityHandles == null) {
+            entityHandles = new EntityHandles();
+        }
+        return entityHandles;
+    }
+
+    private EntityHandles() {
+    }
+
+    /**
+     * Takes a free slot, or a new one if none is free.
+     *
+     * @return handle for a new item
+     */
+    public long acquire() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        }
+        else {
+            if (slotCount == generations.length) {
+                generations = Arrays.copyOf(generations, slotCount * 2);
+                freeSlots = Arrays.copyOf(freeSlots, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        return (long) generations[slot] << 32 | slot;
+    }
+
+    /**
+     * Frees the slot of a handle. Releasing a handle that is already released does nothing.
+     *
+     * @param handle handle from acquire
+     */
+    public void release(long handle) {
+        if (!isLive(handle)) {
+            return;
+        }
+        int slot = slotOf(handle);
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * @param handle handle from acquire
+     * @return true if the handle has not been released
+     */
+    public boolean isLive(long handle) {
+        int slot = slotOf(handle);
+        return handle != NO_HANDLE && slot < slotCount && generations[slot] == (int) (handle >>> 32);
+    }
+
+    /**
+     * @param handle handle from acquire
+     * @return slot of the handle, at most the largest number of items that have lived at the same time
+     */
+    public static int slotOf(long handle) {
+        return (int) handle;
+    }
+}
@@ -0,0 +1,232 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the data of many on screen items in parallel arrays, one slot per item.
+ * Items added to a store read and write their position, size, speed, direction, lives and weapon cooldown
+ * from the store, so loops over all items run through a few arrays instead of jumping between objects.
+ * Removing an item moves the last item into its slot, so the slots are always 0 to size - 1.
+ */
+public class EntityStore {
+
+    private int size = 0;
+    private OnScreenItems[] items = new OnScreenItems[64];
+
+    double[] coordX = new double[64];
+    double[] coordY = new double[64];
+    double[] previousX = new double[64];
+    double[] previousY = new double[64];
+    double[] width = new double[64];
+    double[] height = new double[64];
+    double[] speed = new double[64];
+    boolean[] facingPlayer = new boolean[64];
+    int[] lifes = new int[64];
+    int[] readyToShoot = new int[64];
+    int[] shootInterval = new int[64];
+    boolean[] moveStateUpDown = new boolean[64];
+    boolean[] moveStateRightLeft = new boolean[64];
+
+    /**
+     * Copies the item into the last slot and lets it use the store from now on.
+     *
+     * @param item item to add
+     * @return slot of the item
+     */
+    int add(OnScreenItems item) {
+        if (size == items.length) {
+            grow();
+        }
+        int slot = size++;
+        items[slot] = item;
+        item.copyTo(this, slot);
+        item.attach(this, slot);
+        return slot;
+    }
+
+    /**
+     * Copies the item's data back into the item and moves the last item into its slot.
+     *
+     * @param item item to remove
+     * @return the slot the item had, or -1 if it wasn't in this store
+     */
+    int remove(OnScreenItems item) {
+        if (item.store != this) {
+            return -1;
+        }
+        int slot = item.slot;
+        item.copyFrom(this, slot);
+        item.attach(null, -1);
+
+        int last = --size;
+        if (slot != last) {
+            move(last, slot);
+            items[slot].attach(this, slot);
+        }
+        items[last] = null;
+        return slot;
+    }
+
+    /**
+     * Removes all items, copying their data back first.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            items[i].copyFrom(this, i);
+            items[i].attach(null, -1);
+            items[i] = null;
+        }
+        size = 0;
+    }
+
+    /////////************** Getter and setters ***********************
+
+    public int size() {
+        return size;
+    }
+
+    public OnScreenItems getItem(int slot) {
+        return items[slot];
+    }
+
+    public double getCoordX(int slot) {
+        return coordX[slot];
+    }
+
+    public double getCoordY(int slot) {
+        return coordY[slot];
+    }
+
+    public double getWidth(int slot) {
+        return width[slot];
+    }
+
+    public double getHeight(int slot) {
+        return height[slot];
+    }
+
+    public boolean isFacingPlayer(int slot) {
+        return facingPlayer[slot];
+    }
+
+    public int getLifes(int slot) {
+        return lifes[slot];
+    }
+
+    public boolean isMoveStateUpDown(int slot) {
+        return moveStateUpDown[slot];
+    }
+
+    public void setMoveStateUpDown(int slot, boolean moveStateUpDown) {
+        this.moveStateUpDown[slot] = moveStateUpDown;
+    }
+
+    public boolean isMoveStateRightLeft(int slot) {
+        return moveStateRightLeft[slot];
+    }
+
+    public void setMoveStateRightLeft(int slot, boolean moveStateRightLeft) {
+        this.moveStateRightLeft[slot] = moveStateRightLeft;
+    }
+
+    /////////**************End of Getter and setters ***********************
+
+    /**
+     * Moves every item up, taking direction into account. Same as calling moveUp on each item.
+     */
+    public void moveAllUp() {
+        for (int i = 0; i < size; i++) {
+            coordY[i] += facingPlayer[i] ? speed[i] : -speed[i];
+        }
+    }
+
+    /**
+     * Moves one item up, taking direction into account.
+     *
+     * @param slot slot of the item
+     */
+    public void moveUp(int slot) {
+        coordY[slot] += facingPlayer[slot] ? speed[slot] : -speed[slot];
+    }
+
+    /**
+     * Moves one item down, taking direction into account.
+     *
+     * @param slot slot of the item
+     */
+    public void moveDown(int slot) {
+        coordY[slot] += facingPlayer[slot] ? -speed[slot] : speed[slot];
+    }
+
+    /**
+     * Moves one item to the left, taking direction into account.
+     *
+     * @param slot slot of the item
+     */
+    public void moveLeft(int slot) {
+        coordX[slot] += facingPlayer[slot] ? speed[slot] : -speed[slot];
+    }
+
+    /**
+     * Moves one item to the right, taking direction into account.
+     *
+     * @param slot slot of the item
+     */
+    public void moveRight(int slot) {
+        coordX[slot] += facingPlayer[slot] ? -speed[slot] : speed[slot];
+    }
+
+    /**
+     * Counts every weapon one tick closer to being ready to shoot.
+     */
+    public void addToReadyToShoot() {
+        for (int i = 0; i < size; i++) {
+            if (readyToShoot[i] < shootInterval[i]) {
+                readyToShoot[i]++;
+            }
+        }
+    }
+
+    /**
+     * Remembers the current positions as the start of the next simulation tick.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(coordX, 0, previousX, 0, size);
+        System.arraycopy(coordY, 0, previousY, 0, size);
+    }
+
+    private void move(int from, int to) {
+        items[to] = items[from];
+        coordX[to] = coordX[from];
+        coordY[to] = coordY[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        speed[to] = speed[from];
+        facingPlayer[to] = facingPlayer[from];
+        lifes[to] = lifes[from];
+        readyToShoot[to] = readyToShoot[from];
+        shootInterval[to] = shootInterval[from];
+        moveStateUpDown[to] = moveStateUpDown[from];
+        moveStateRightLeft[to] = moveStateRightLeft[from];
+    }
+
+    private void grow() {
+        int newLength = items.length * 2;
+        items = Arrays.copyOf(items, newLength);
+        coordX = Arrays.copyOf(coordX, newLength);
+        coordY = Arrays.copyOf(coordY, newLength);
+        previousX = Arrays.copyOf(previousX, newLength);
+        previousY = Arrays.copyOf(previousY, newLength);
+        width = Arrays.copyOf(width, newLength);
+        height = Arrays.copyOf(height, newLength);
+        speed = Arrays.copyOf(speed, newLength);
+        facingPlayer = Arrays.copyOf(facingPlayer, newLength);
+        lifes = Arrays.copyOf(lifes, newLength);
+        readyToShoot = Arrays.copyOf(readyToShoot, newLength);
+        shootInterval = Arrays.copyOf(shootInterval, newLength);
+        moveStateUpDown = Arrays.copyOf(moveStateUpDown, newLength);
+        moveStateRightLeft = Arrays.copyOf(moveStateRightLeft, newLength);
+    }
+}
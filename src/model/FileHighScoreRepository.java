@@ -0,0 +1,142 @@
+package model;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * High score repository that keeps scores in files, without a database server.
+ * Every score is appended to a log as a record with a checksum (see ScoreRecords), and the log is never rewritten.
+ * All scores are read from the log when the repository is opened and kept sorted in memory, so reading the top scores
+ * or a page of the leaderboard never touches the log. A score's id is its place in the log.
+ * A record that was cut off or doesn't match its checksum ends the log, it is cut away on open.
+ */
+public class FileHighScoreRepository implements IHighScoreRepository {
+
+    private final Path logPath;
+    // Every score in leaderboard order
+    private final ArrayList<HighScoreBean> scores = new ArrayList<>();
+
+    private FileChannel log;
+
+    /**
+     * Opens the score log in the directory, creating it if needed, and reads the scores from it.
+     *
+     * @param directory directory for the log file
+     * @throws HighScoreException if the log couldn't be opened
+     */
+    public FileHighScoreRepository(Path directory) {
+        this.logPath = directory.resolve("highscores.log");
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new HighScoreException("Could not open the score files in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends the score to the log, forces it to disk and puts it in the sorted scores.
+     * If the write fails, the log is cut back to where the record started so no part of it is left.
+     *
+     * @param name Player alias
+     * @param score Player score
+     * @return true if the score was saved
+     */
+    @Override
+    public synchronized boolean saveScore(String name, int score) {
+        long start = -1;
+        try {
+            start = log.position();
+            ScoreRecords.write(log, ScoreRecords.encode(name, score));
+            log.force(false);
+        } catch (IOException e) {
+            GameLogger.getLogger().error(e.toString());
+            if (start >= 0) {
+                cutBackTo(start);
+            }
+            return false;
+        }
+        HighScoreBean saved = new HighScoreBean(scores.size(), name, score);
+        scores.add(firstIndexAfter(saved), saved);
+        return true;
+    }
+
+    /**
+     * Gives the first of the sorted scores.
+     *
+     * @param count number of scores to give
+     * @return array of length count, entries are null if there are fewer scores
+     */
+    @Override
+    public synchronized HighScoreBean[] getTopScores(int count) {
+        HighScoreBean[] topScores = new HighScoreBean[count];
+        for (int i = 0; i < Math.min(count, scores.size()); i++) {
+            topScores[i] = scores.get(i);
+        }
+        return topScores;
+    }
+
+    /**
+     * Gives a page of the leaderboard from the sorted scores, found with a binary search.
+     *
+     * @param after last score of the previous page, null for the first page
+     * @param count largest number of scores to give
+     * @return the scores after the given one
+     */
+    @Override
+    public synchronized HighScoreBean[] getScoresAfter(HighScoreBean after, int count) {
+        int first = after == null ? 0 : firstIndexAfter(after);
+        int last = Math.min(scores.size(), first + count);
+        return scores.subList(first, last).toArray(new HighScoreBean[0]);
+    }
+
+    /**
+     * Reads the log up to the last whole record and cuts away anything after it.
+     */
+    private void open() throws IOException {
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd = ScoreRecords.readAll(log, score -> scores.add(new HighScoreBean(scores.size(), score.getUsername(), score.getScore())));
+        // Stable, so equal scores stay in id order
+        scores.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        if (validEnd < log.size()) {
+            GameLogger.getLogger().warn("Cutting " + (log.size() - validEnd) + " broken bytes from the end of the score log");
+            log.truncate(validEnd);
+        }
+        log.position(validEnd);
+    }
+
+    /**
+     * Cuts away a record that was only partly written, so the next one starts at the end of the last whole record.
+     */
+    private void cutBackTo(long position) {
+        try {
+            log.truncate(position);
+            log.position(position);
+        } catch (IOException e) {
+            GameLogger.getLogger().error(e.toString());
+        }
+    }
+
+    /**
+     * Index of the first score that comes after the given one on the leaderboard: a lower score, or the same score with a higher id.
+     */
+    private int firstIndexAfter(HighScoreBean after) {
+        int low = 0;
+        int high = scores.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            HighScoreBean score = scores.get(middle);
+            if (score.getScore() > after.getScore() || (score.getScore() == after.getScore() && score.getId() <= after.getId())) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
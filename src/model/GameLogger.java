@@ -0,0 +1,138 @@
+package model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Leveled logger for the game loop. Logging a message only stores its level and text in a preallocated
+ * ring buffer, a background thread writes the buffered messages to standard out, and errors to standard error, every
+ * Constants.LOG_FLUSH_INTERVAL_MS. Messages below Constants.LOG_LEVEL are skipped, and if the buffer is full
+ * new messages are dropped and counted instead of making the game wait.
+ */
+public class GameLogger {
+
+    public static final int DEBUG = 0;
+    public static final int INFO = 1;
+    public static final int WARN = 2;
+    public static final int ERROR = 3;
+    private static final String[] LEVEL_NAMES = {"[DEBUG] ", "[INFO] ", "[WARN] ", "[ERROR] "};
+
+    private static GameLogger logger;
+
+    private final int capacity = Constants.LOG_BUFFER_SIZE;
+    private final String[] messages = new String[capacity];
+    private final int[] levels = new int[capacity];
+    // Sequence number of the message in each slot, set last so the flusher knows the slot is written
+    private final AtomicLongArray publishedSequences = new AtomicLongArray(capacity);
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile long readSequence = 0;
+
+    private final Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 8192);
+    private final Writer err = new BufferedWriter(new OutputStreamWriter(System.err), 8192);
+
+    /**
+     * Creates the logger and starts its flush thread unless there is one already.
+     * @return logger
+     */
+    public static synchronized GameLogger getLogger() {
+        if (logger == null) {
+            logger = new GameLogger();
+        }
+        return logger;
+    }
+
+    private GameLogger() {
+        for (int i = 0; i < capacity; i++) {
+            publishedSequences.set(i, -1);
+        }
+        Thread flushThread = new Thread(this::flushPeriodically, "Logger");
+        flushThread.setDaemon(true);
+        flushThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    public void debug(String message) {
+        log(DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(INFO, message);
+    }
+
+    public void warn(String message) {
+        log(WARN, message);
+    }
+
+    public void error(String message) {
+        log(ERROR, message);
+    }
+
+    /**
+     * Puts a message in the ring buffer without waiting, can be called from any thread.
+     *
+     * @param level DEBUG, INFO, WARN or ERROR
+     * @param message text to log
+     */
+    public void log(int level, String message) {
+        if (level < Constants.LOG_LEVEL) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = nextSequence.get();
+            if (sequence - readSequence >= capacity) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+        } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence % capacity);
+        messages[slot] = message;
+        levels[slot] = level;
+        publishedSequences.set(slot, sequence);
+    }
+
+    /**
+     * Writes all messages logged so far, errors to standard error and the rest to standard out.
+     */
+    public synchronized void flush() {
+        try {
+            long sequence = readSequence;
+            int slot = (int) (sequence % capacity);
+            while (publishedSequences.get(slot) == sequence) {
+                Writer target = levels[slot] == ERROR ? err : out;
+                target.write(LEVEL_NAMES[levels[slot]]);
+                target.write(messages[slot]);
+                target.write(System.lineSeparator());
+                messages[slot] = null;
+                sequence++;
+                readSequence = sequence;
+                slot = (int) (sequence % capacity);
+            }
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                out.write(LEVEL_NAMES[WARN] + dropped + " log messages dropped" + System.lineSeparator());
+            }
+            out.flush();
+            err.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void flushPeriodically() {
+        while (true) {
+            flush();
+            try {
+                Thread.sleep(Constants.LOG_FLUSH_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A copy of everything the game view needs to draw one frame: positions, lives, points and ult state.
+ * Filled by the simulation thread after a tick and only read by the view once published,
+ * so the view never has to touch the live models.
+ */
+public class GameSnapshot {
+
+    public static final int PLAYER_BULLET = 0;
+    public static final int ENEMY_BULLET = 1;
+    public static final int ENEMY = 2;
+    public static final int METEOR = 3;
+    public static final int HEART = 4;
+
+    private long tickNumber;
+    private long ultActivatedTick = -1;
+    private long publishTime;
+
+    private String playerImageUrl;
+    private double playerX;
+    private double playerY;
+    private double playerPreviousX;
+    private double playerPreviousY;
+    private double playerWidth;
+    private double playerHeight;
+    private int playerLifes;
+    private int ultCounter;
+    private boolean ultReady;
+    private int points;
+    private int level;
+
+    private int entityCount;
+    private long[] handles = new long[64];
+    private int[] kinds = new int[64];
+    private String[] imageUrls = new String[64];
+    private double[] coordX = new double[64];
+    private double[] coordY = new double[64];
+    private double[] previousX = new double[64];
+    private double[] previousY = new double[64];
+    private double[] widths = new double[64];
+    private double[] heights = new double[64];
+
+    /**
+     * Copies the state of all models into this snapshot. Arrays are reused and only grow when needed.
+     *
+     * @param model the game model
+     * @param tickNumber ticks run since the game started
+     * @param ultActivatedTick tick when the ult was last used, -1 if never
+     */
+    public void capture(InGameModel model, long tickNumber, long ultActivatedTick) {
+        this.tickNumber = tickNumber;
+        this.ultActivatedTick = ultActivatedTick;
+
+        PlayerShip player = model.getPlayerModel();
+        playerImageUrl = player.getImageUrl();
+        playerX = player.getItemCoordX();
+        playerY = player.getItemCoordY();
+        playerPreviousX = player.getPreviousCoordX();
+        playerPreviousY = player.getPreviousCoordY();
+        playerWidth = player.getItemWidth();
+        playerHeight = player.getItemHeight();
+        playerLifes = player.getLifes();
+        ultCounter = player.getUltCounter();
+        ultReady = player.IsUltReady();
+        points = model.getPoints();
+        level = model.getLevel();
+
+        entityCount = 0;
+        for (IBullet bullet : model.getBulletsModelList()) {
+            OnScreenItems item = (OnScreenItems) bullet;
+            addEntity(item, item.isFacingPlayer() ? ENEMY_BULLET : PLAYER_BULLET);
+        }
+        for (EnemyShip enemy : model.getEnemyModelList()) {
+            addEntity(enemy, ENEMY);
+        }
+        if (model.getModelMeteor() != null) {
+            addEntity(model.getModelMeteor(), METEOR);
+        }
+        if (model.getHeartHpUp() != null) {
+            addEntity(model.getHeartHpUp(), HEART);
+        }
+    }
+
+    /**
+     * Adds one item to the end of the entity arrays.
+     *
+     * @param item item to copy
+     * @param kind kind of item
+     */
+    private void addEntity(OnScreenItems item, int kind) {
+        if (entityCount == handles.length) {
+            grow();
+        }
+        handles[entityCount] = item.getHandle();
+        kinds[entityCount] = kind;
+        imageUrls[entityCount] = item.getImageUrl();
+        coordX[entityCount] = item.getItemCoordX();
+        coordY[entityCount] = item.getItemCoordY();
+        previousX[entityCount] = item.getPreviousCoordX();
+        previousY[entityCount] = item.getPreviousCoordY();
+        widths[entityCount] = item.getItemWidth();
+        heights[entityCount] = item.getItemHeight();
+        entityCount++;
+    }
+
+    /**
+     * Doubles the size of all entity arrays.
+     */
+    private void grow() {
+        int size = handles.length * 2;
+        handles = Arrays.copyOf(handles, size);
+        kinds = Arrays.copyOf(kinds, size);
+        imageUrls = Arrays.copyOf(imageUrls, size);
+        coordX = Arrays.copyOf(coordX, size);
+        coordY = Arrays.copyOf(coordY, size);
+        previousX = Arrays.copyOf(previousX, size);
+        previousY = Arrays.copyOf(previousY, size);
+        widths = Arrays.copyOf(widths, size);
+        heights = Arrays.copyOf(heights, size);
+    }
+
+    /////////************** Getter and setters ***********************
+
+    public long getTickNumber() {
+        return tickNumber;
+    }
+
+    public long getUltActivatedTick() {
+        return ultActivatedTick;
+    }
+
+    public long getPublishTime() {
+        return publishTime;
+    }
+
+    public void setPublishTime(long publishTime) {
+        this.publishTime = publishTime;
+    }
+
+    public String getPlayerImageUrl() {
+        return playerImageUrl;
+    }
+
+    public double getPlayerWidth() {
+        return playerWidth;
+    }
+
+    public double getPlayerHeight() {
+        return playerHeight;
+    }
+
+    public int getPlayerLifes() {
+        return playerLifes;
+    }
+
+    public int getUltCounter() {
+        return ultCounter;
+    }
+
+    public boolean isUltReady() {
+        return ultReady;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isGameOver() {
+        return playerLifes <= 0;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    public long getHandle(int index) {
+        return handles[index];
+    }
+
+    public int getKind(int index) {
+        return kinds[index];
+    }
+
+    public String getImageUrl(int index) {
+        return imageUrls[index];
+    }
+
+    public double getWidth(int index) {
+        return widths[index];
+    }
+
+    public double getHeight(int index) {
+        return heights[index];
+    }
+
+    /////////************** End of Getter and setters ***********************
+
+    /**
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
+     * @return player x position between the last two ticks
+     */
+    public double getPlayerRenderX(double alpha) {
+        return playerPreviousX + (playerX - playerPreviousX) * alpha;
+    }
+
+    /**
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
+     * @return player y position between the last two ticks
+     */
+    public double getPlayerRenderY(double alpha) {
+        return playerPreviousY + (playerY - playerPreviousY) * alpha;
+    }
+
+    /**
+     * @param index entity index
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
+     * @return entity x position between the last two ticks
+     */
+    public double getRenderX(int index, double alpha) {
+        return previousX[index] + (coordX[index] - previousX[index]) * alpha;
+    }
+
+    /**
+     * @param index entity index
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
+     * @return entity y position between the last two ticks
+     */
+    public double getRenderY(int index, double alpha) {
+        return previousY[index] + (coordY[index] - previousY[index]) * alpha;
+    }
+}
@@ -1,10 +1,19 @@
 package model;
 
-import java.sql.SQLException;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Handles high score to display.
- *
+ * Scores are kept in a high score repository, the score files or the database depending on Constants.USE_FILE_HIGH_SCORES.
+ * All repository calls run on the high score threads and are returned as futures, so the JavaFX thread never waits for the database.
+ * A future fails with a HighScoreException if the scores couldn't be read or saved. If the repository couldn't be opened
+ * it is opened again on the next call.
+ * Top 10 is kept in memory and saved scores are written through to it, so it is only read again when it gets old.
+ * A read that fails is not kept, and a read that was running while a score was saved doesn't replace the kept copy.
+ * The full leaderboard is read a page at a time.
  *
  * @author Isabelle Romhagen, Ludvig Lundin
  * @version 1.2
@@ -13,20 +22,25 @@ public class HighScore {
 
     private static HighScore highScore;
 
-    private HighScoreBean[] top10;
+    private final ExecutorService databaseThreads = Executors.newFixedThreadPool(Constants.HIGH_SCORE_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "High score");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    /**
-     * Get top 10 to display.
-     */
-    private HighScore() {
-        top10 = new DBUtil().updateHighScore();
-    }
+    // Guarded by this, replaced if opening failed
+    private CompletableFuture<IHighScoreRepository> repository;
+    // Kept top 10, guarded by this
+    private HighScoreBean[] top10 = new HighScoreBean[10];
+    private long top10ReadAt = -1;
+    // Counts saved scores, a read only replaces top 10 if no score was saved since it started
+    private long top10Version = 0;
 
     /**
-     * Call the database to update top 10 to display.
+     * Opens the score files or the database on a high score thread and starts reading top 10 to display.
      */
-    public void updateTop10() {
-        top10 = new DBUtil().updateHighScore();
+    private HighScore() {
+        getTop10Async();
     }
 
     /**
@@ -34,7 +48,7 @@ public class HighScore {
      *
      * @return highScore
      */
-    public static HighScore getHighScore() {
+    public static synchronized HighScore getHighScore() {
         if (highScore == null) {
             highScore = new HighScore();
         }
@@ -42,32 +56,107 @@ public class HighScore {
     }
 
     /**
-     * Call the updateTop10 method, get the first value from the array top10.
+     * Gives top 10, read from the repository in the background only if the kept copy is older than
+     * Constants.HIGH_SCORE_CACHE_TTL_MS.
      *
-     * @return top10[0]
+     * @return future with top 10, some entries are null if there are fewer scores
      */
-    public int getBestHighestScore() {
-        updateTop10();
-        if (top10[0] != null) {
-            return top10[0].getScore();
+    public CompletableFuture<HighScoreBean[]> getTop10Async() {
+        long readVersion;
+        synchronized (this) {
+            if (top10ReadAt >= 0 && System.currentTimeMillis() - top10ReadAt < Constants.HIGH_SCORE_CACHE_TTL_MS) {
+                return CompletableFuture.completedFuture(top10.clone());
+            }
+            readVersion = top10Version;
         }
+        return getRepository().thenApplyAsync(scores -> setTop10(scores.getTopScores(10), readVersion), databaseThreads);
+    }
 
-        return 0;
+    /**
+     * Gives the best score, read from the repository in the background only if the kept top 10 is too old.
+     *
+     * @return future with the best score, 0 if there is none
+     */
+    public CompletableFuture<Integer> getBestHighestScoreAsync() {
+        return getTop10Async().thenApply(scores -> scores[0] != null ? scores[0].getScore() : 0);
     }
 
-    public HighScoreBean[] getTop10() {
-        return top10;
+    /**
+     * Reads a page of the leaderboard in the background, starting after the last score of the previous page
+     * so the repository never has to skip past the pages before it.
+     *
+     * @param after last score of the previous page, null for the first page
+     * @param count largest number of scores in the page
+     * @return future with the page, shorter than count at the end of the leaderboard
+     */
+    public CompletableFuture<HighScoreBean[]> getScorePageAsync(HighScoreBean after, int count) {
+        return getRepository().thenApplyAsync(scores -> scores.getScoresAfter(after, count), databaseThreads);
     }
 
     /**
-     * Save score along with name to database.
+     * Saves score along with name to the repository in the background.
+     * If the save works the score is also put in the kept top 10, so it doesn't have to be read again.
      *
      * @param name Player's alias
      * @param highscore Player's score
-     * @throws SQLException
+     * @return future with top 10 after the save, fails if the score wasn't saved
+     */
+    public CompletableFuture<HighScoreBean[]> saveNewHighscoreAsync(String name, int highscore) {
+        return getRepository().thenApplyAsync(scores -> {
+            if (!scores.saveScore(name, highscore)) {
+                throw new HighScoreException("Score could not be saved");
+            }
+            return addToTop10(new HighScoreBean(name, highscore));
+        }, databaseThreads);
+    }
+
+    /**
+     * Gives the repository, opening it on a high score thread the first time and again if it couldn't be opened.
      */
-    public void saveNewHighscore(String name, int highscore) throws SQLException {
-        new DBUtil().handleHighScore(name, highscore);
+    private synchronized CompletableFuture<IHighScoreRepository> getRepository() {
+        if (repository == null || repository.isCompletedExceptionally()) {
+            repository = CompletableFuture.supplyAsync(() -> {
+                if (Constants.USE_FILE_HIGH_SCORES) {
+                    return new FileHighScoreRepository(Paths.get(Constants.HIGH_SCORE_DIRECTORY));
+                }
+                return new JournaledHighScoreRepository(new DBUtil(), Paths.get(Constants.HIGH_SCORE_DIRECTORY, Constants.SCORE_JOURNAL_FILE));
+            }, databaseThreads);
+        }
+        return repository;
     }
 
+    /**
+     * Keeps a read top 10, unless a score was saved while it was read. Then the kept copy already has the new score,
+     * or if nothing was kept yet the read is given back without keeping it, so the next call reads again.
+     */
+    private synchronized HighScoreBean[] setTop10(HighScoreBean[] scores, long readVersion) {
+        if (readVersion == top10Version) {
+            top10 = scores;
+            top10ReadAt = System.currentTimeMillis();
+        }
+        else if (top10ReadAt < 0) {
+            return scores.clone();
+        }
+        return top10.clone();
+    }
+
+    /**
+     * Puts a score in the kept top 10 after any equal score, the lowest score falls off.
+     * Does nothing to the kept copy if top 10 hasn't been read yet.
+     */
+    private synchronized HighScoreBean[] addToTop10(HighScoreBean score) {
+        top10Version++;
+        if (top10ReadAt < 0) {
+            return top10.clone();
+        }
+        int position = 0;
+        while (position < top10.length && top10[position] != null && top10[position].getScore() >= score.getScore()) {
+            position++;
+        }
+        if (position < top10.length) {
+            System.arraycopy(top10, position, top10, position + 1, top10.length - position - 1);
+            top10[position] = score;
+        }
+        return top10.clone();
+    }
 }
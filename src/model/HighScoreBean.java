@@ -6,9 +6,14 @@ package model;
  * @version 1.2
  */
 public class HighScoreBean {
+    private long id = -1;
     private String username;
     private int score;
 
+    public long getId() {
+        return id;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -26,4 +31,16 @@ public class HighScoreBean {
         this.username = username;
         this.score = score;
     }
+
+    /**
+     * Constructor sets id, Player alias and score for a score read from storage.
+     * Scores with the same score are ordered by id on the leaderboard.
+     * @param id id of the score in storage
+     * @param username Player alias
+     * @param score Player score
+     */
+    public HighScoreBean(long id, String username, int score) {
+        this(username, score);
+        this.id = id;
+    }
 }
@@ -0,0 +1,17 @@
+package model;
+
+/**
+ * Thrown when high scores can't be read or saved, so callers can tell a failure from an empty leaderboard.
+ */
+public class HighScoreException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public HighScoreException(String message) {
+        super(message);
+    }
+
+    public HighScoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
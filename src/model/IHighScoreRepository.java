@@ -0,0 +1,36 @@
+package model;
+
+/**
+ * Interface for where high scores are stored.
+ */
+
+public interface IHighScoreRepository {
+
+    /**
+     * Saves a score.
+     *
+     * @param name Player alias
+     * @param score Player score
+     * @return true if the score was saved
+     */
+    boolean saveScore(String name, int score);
+
+    /**
+     * Gives the highest scores, best first.
+     *
+     * @param count number of scores to give
+     * @return array of length count, entries are null if there are fewer scores
+     * @throws HighScoreException if the scores couldn't be read
+     */
+    HighScoreBean[] getTopScores(int count);
+
+    /**
+     * Gives a page of the leaderboard, ordered by score with the highest first and then by id.
+     *
+     * @param after last score of the previous page, null for the first page
+     * @param count largest number of scores to give
+     * @return the scores right after the given one, fewer than count at the end of the leaderboard
+     * @throws HighScoreException if the scores couldn't be read
+     */
+    HighScoreBean[] getScoresAfter(HighScoreBean after, int count);
+}
@@ -15,6 +15,10 @@ public class InGameModel {
     private ArrayList<IBullet> bulletsModelList = new ArrayList<>();
     private ArrayList<EnemyShip> enemiesModelList = new ArrayList<>();
 
+    // The lists above always hold the items in the same order as the slots in these stores
+    private EntityStore bulletStore = new EntityStore();
+    private EntityStore enemyStore = new EntityStore();
+
     private HpUp heartHpUp;
     private Meteor modelMeteor;
     private int points = 0;
@@ -28,6 +32,10 @@ public class InGameModel {
     }
 
     public void setHeartHpUp(HpUp heartHpUp) {
+        if (heartHpUp != this.heartHpUp) {
+            unregister(this.heartHpUp);
+            register(heartHpUp);
+        }
         this.heartHpUp = heartHpUp;
     }
 
@@ -47,6 +55,10 @@ public class InGameModel {
         return modelMeteor;
     }
     public void setModelMeteor(Meteor modelMeteor) {
+        if (modelMeteor != this.modelMeteor) {
+            unregister(this.modelMeteor);
+            register(modelMeteor);
+        }
         this.modelMeteor = modelMeteor;
     }
 
@@ -89,10 +101,6 @@ public class InGameModel {
         playerModel = new PlayerShip(url);
     }
 
-    public void setBulletsModelList(ArrayList<IBullet> bulletsModelList) {
-        this.bulletsModelList = bulletsModelList;
-    }
-
     public ArrayList<IBullet> getBulletsModelList() {
         return bulletsModelList;
     }
@@ -102,7 +110,26 @@ public class InGameModel {
      * @param bullet bullet to add
      */
     public void addBullets(IBullet bullet) {
+        bulletStore.add((OnScreenItems) bullet);
         bulletsModelList.add(bullet);
+        register((OnScreenItems) bullet);
+    }
+
+    /**
+     * Removes a bullet by moving the last bullet into its place, and gives it back to the bullet pool.
+     * @param bullet bullet to remove
+     */
+    public void removeBullet(IBullet bullet) {
+        int slot = bulletStore.remove((OnScreenItems) bullet);
+        if (slot >= 0) {
+            swapRemove(bulletsModelList, slot);
+            unregister((OnScreenItems) bullet);
+            BulletPool.getBulletPool().recycle(bullet);
+        }
+    }
+
+    public EntityStore getBulletStore() {
+        return bulletStore;
     }
 
     public ArrayList<EnemyShip> getEnemyModelList() {
@@ -114,18 +141,90 @@ public class InGameModel {
      * @param enemy model of enemy ship
      */
     public void addEnemyModel(EnemyShip enemy) {
+        enemyStore.add(enemy);
         enemiesModelList.add(enemy);
+        register(enemy);
+    }
+
+    /**
+     * Removes an enemy by moving the last enemy into its place.
+     * @param enemy model of enemy ship
+     */
+    public void removeEnemyModel(EnemyShip enemy) {
+        int slot = enemyStore.remove(enemy);
+        if (slot >= 0) {
+            swapRemove(enemiesModelList, slot);
+            unregister(enemy);
+        }
+    }
+
+    public EntityStore getEnemyStore() {
+        return enemyStore;
     }
 
     //adds meteor to meteorModelList
 
     ///// ******************* END OF GETTERS AND SETTERS  ******************************
 
+    /**
+     * Removes the item at index by moving the last item into its place.
+     */
+    private static <T> void swapRemove(ArrayList<T> list, int index) {
+        int last = list.size() - 1;
+        list.set(index, list.get(last));
+        list.remove(last);
+    }
+
+    /**
+     * Gives the item a handle, so the view can tell it apart from every other item.
+     */
+    private static void register(OnScreenItems item) {
+        if (item != null) {
+            item.handle = EntityHandles.getEntityHandles().acquire();
+        }
+    }
+
+    /**
+     * Frees the item's handle when it leaves the game.
+     */
+    private static void unregister(OnScreenItems item) {
+        if (item != null) {
+            EntityHandles.getEntityHandles().release(item.handle);
+            item.handle = EntityHandles.NO_HANDLE;
+        }
+    }
+
+    /**
+     * Saves the position of every item on screen, so the view can draw them between two ticks.
+     */
+    public void savePreviousPositions() {
+        playerModel.savePreviousPosition();
+        bulletStore.savePreviousPositions();
+        enemyStore.savePreviousPositions();
+        if (modelMeteor != null) {
+            modelMeteor.savePreviousPosition();
+        }
+        if (heartHpUp != null) {
+            heartHpUp.savePreviousPosition();
+        }
+    }
+
     /**
      * Resets points and models for player ship, bullets list, enemies list, meteor.
      */
     public void resetAllModel() {
         playerModel = new PlayerShip(myShipURL);
+        bulletStore.clear();
+        enemyStore.clear();
+        for (IBullet bullet : bulletsModelList) {
+            unregister((OnScreenItems) bullet);
+            BulletPool.getBulletPool().recycle(bullet);
+        }
+        for (EnemyShip enemy : enemiesModelList) {
+            unregister(enemy);
+        }
+        unregister(modelMeteor);
+        unregister(heartHpUp);
         bulletsModelList.clear();
         enemiesModelList.clear();
         modelMeteor = null;
@@ -0,0 +1,89 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Database high score repository that never makes a save wait for the database.
+ * Saved scores go to a local score journal, and a flusher thread sends them to the database
+ * in batches of up to Constants.SCORE_BATCH_SIZE, one insert per batch. If the database can't be reached
+ * the flusher tries again, waiting twice as long each time up to Constants.SCORE_FLUSH_MAX_RETRY_MS.
+ */
+public class JournaledHighScoreRepository implements IHighScoreRepository {
+
+    private final DBUtil database;
+    private ScoreJournal journal;
+
+    /**
+     * Opens the journal and starts flushing the scores left in it.
+     *
+     * @param database database the scores end up in
+     * @param journalPath journal file
+     */
+    public JournaledHighScoreRepository(DBUtil database, Path journalPath) {
+        this.database = database;
+        try {
+            journal = new ScoreJournal(journalPath);
+            Thread flushThread = new Thread(this::flushScores, "Score flusher");
+            flushThread.setDaemon(true);
+            flushThread.start();
+        } catch (IOException e) {
+            GameLogger.getLogger().error(e.toString());
+        }
+    }
+
+    /**
+     * Writes the score to the journal, or straight to the database if there is no journal.
+     *
+     * @param name Player alias
+     * @param score Player score
+     * @return true if the score was saved
+     */
+    @Override
+    public boolean saveScore(String name, int score) {
+        if (journal != null) {
+            try {
+                journal.append(new HighScoreBean(name, score));
+                return true;
+            } catch (IOException e) {
+                GameLogger.getLogger().error(e.toString());
+            }
+        }
+        return database.saveScore(name, score);
+    }
+
+    @Override
+    public HighScoreBean[] getTopScores(int count) {
+        return database.getTopScores(count);
+    }
+
+    @Override
+    public HighScoreBean[] getScoresAfter(HighScoreBean after, int count) {
+        return database.getScoresAfter(after, count);
+    }
+
+    /**
+     * Sends journaled scores to the database until the thread is interrupted.
+     */
+    private void flushScores() {
+        long retryDelay = Constants.SCORE_FLUSH_RETRY_MS;
+        while (true) {
+            try {
+                List<HighScoreBean> batch = journal.waitForScores(Constants.SCORE_BATCH_SIZE);
+                try {
+                    database.saveScores(batch);
+                    journal.removeFlushed(batch.size());
+                    retryDelay = Constants.SCORE_FLUSH_RETRY_MS;
+                } catch (SQLException | IOException e) {
+                    GameLogger.getLogger().warn("Couldn't flush scores, trying again in " + retryDelay + " ms: " + e);
+                    Thread.sleep(retryDelay);
+                    retryDelay = Math.min(retryDelay * 2, Constants.SCORE_FLUSH_MAX_RETRY_MS);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -20,4 +20,14 @@ public class LaserBullet extends OnScreenItems implements IBullet {
         super(Constants.LASER_BULLET_URL, itemCoordX, itemCoordY, Constants.LASER_BULLET_HEIGHT, Constants.LASER_BULLET_WIDTH, Constants.LASER_BULLET_MOVEMENT_SPEED, isFacingPlayer);
     }
 
+    /**
+     * Fires a pooled bullet again from a new position.
+     * @param itemCoordX x position
+     * @param itemCoordY y position
+     * @param isFacingPlayer direction
+     */
+    void fire(double itemCoordX, double itemCoordY, boolean isFacingPlayer) {
+        reuse(itemCoordX, itemCoordY, isFacingPlayer);
+    }
+
 }
@@ -30,12 +30,12 @@ public class LaserGun extends Weapons {
      */
     @Override
     public IBullet shoot() {
-        if (readyToShoot >= shootInterval) {
+        if (getReadyToShoot() >= shootInterval) {
             double setBulletX = theShip.getItemCoordX() + theShip.getItemWidth()/2;
             double offsetY = (theShip.getItemHeight()/2) - 20;
             double createPosY = isFacingPlayer ? offsetY : -offsetY;
-            readyToShoot = 0;
-            return new LaserBullet(setBulletX,(theShip.getItemCoordY() + createPosY + 60), isFacingPlayer);
+            setReadyToShoot(0);
+            return BulletPool.getBulletPool().obtain(setBulletX,(theShip.getItemCoordY() + createPosY + 60), isFacingPlayer);
         }
         return null;
     }
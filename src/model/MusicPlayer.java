@@ -0,0 +1,147 @@
+package model;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Streams a music track to the audio device from its own thread, one small buffer at a time,
+ * so memory use doesn't depend on the length of the track. The track is reopened as soon as it ends
+ * while the line still has sound queued, so the loop has no gap.
+ */
+public class MusicPlayer {
+
+    private final URL musicResource;
+    private final byte[] buffer = new byte[Constants.MUSIC_BUFFER_BYTES];
+
+    private Thread musicThread;
+    private boolean playing = false;
+    private boolean paused = false;
+    // Set when the track is played again before the music thread has seen the stop
+    private boolean rewind = false;
+
+    /**
+     * @param musicResource track to loop
+     */
+    public MusicPlayer(URL musicResource) {
+        this.musicResource = musicResource;
+    }
+
+    /**
+     * Starts looping the track, or resumes it if it is paused. Never waits for the audio device.
+     */
+    public synchronized void play() {
+        if (!playing && musicThread != null) {
+            rewind = true;
+        }
+        playing = true;
+        paused = false;
+        notifyAll();
+        if (musicThread == null) {
+            musicThread = new Thread(this::stream, "Music");
+            musicThread.setDaemon(true);
+            musicThread.start();
+        }
+    }
+
+    /**
+     * Pauses or resumes the track where it is.
+     *
+     * @param paused true to pause, false to resume
+     */
+    public synchronized void setPaused(boolean paused) {
+        this.paused = paused;
+        notifyAll();
+    }
+
+    /**
+     * Stops the track, the next play starts it from the beginning.
+     */
+    public synchronized void stop() {
+        playing = false;
+        notifyAll();
+    }
+
+    /**
+     * Feeds the line until the track is stopped, reopening the track every time it ends.
+     */
+    private void stream() {
+        SourceDataLine line = null;
+        AudioInputStream input = null;
+        try {
+            input = openTrack();
+            AudioFormat format = input.getFormat();
+            int chunkSize = buffer.length - buffer.length % format.getFrameSize();
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, chunkSize * 4);
+            line.start();
+
+            while (waitUntilPlaying(line)) {
+                if (takeRewind()) {
+                    line.flush();
+                    input.close();
+                    input = openTrack();
+                }
+                int read = input.read(buffer, 0, chunkSize);
+                if (read == -1) {
+                    input.close();
+                    input = openTrack();
+                }
+                else if (read > 0) {
+                    line.write(buffer, 0, read);
+                }
+            }
+            line.stop();
+            line.flush();
+        } catch (Exception e) {
+            GameLogger.getLogger().error("Music stopped: " + e);
+            synchronized (this) {
+                musicThread = null;
+            }
+        } finally {
+            if (line != null) {
+                line.close();
+            }
+            try {
+                if (input != null) {
+                    input.close();
+                }
+            } catch (IOException e) {
+                GameLogger.getLogger().error(e.toString());
+            }
+        }
+    }
+
+    /**
+     * Holds the line while the track is paused.
+     *
+     * @return false if the track has been stopped, then the thread is done
+     */
+    private synchronized boolean waitUntilPlaying(SourceDataLine line) throws InterruptedException {
+        if (paused && playing) {
+            line.stop();
+            while (paused && playing) {
+                wait();
+            }
+            line.start();
+        }
+        if (!playing) {
+            musicThread = null;
+        }
+        return playing;
+    }
+
+    private synchronized boolean takeRewind() {
+        boolean wasSet = rewind;
+        rewind = false;
+        return wasSet;
+    }
+
+    private AudioInputStream openTrack() throws Exception {
+        return AudioSystem.getAudioInputStream(new BufferedInputStream(musicResource.openStream()));
+    }
+}
@@ -9,6 +9,8 @@ package model;
  */
 public class OnScreenItems {
 
+    // Set by the game model while the item is in the game
+    long handle = EntityHandles.NO_HANDLE;
     private String imageUrl;
     private double itemCoordX;
     private double itemCoordY;
@@ -23,6 +25,14 @@ public class OnScreenItems {
     private double moveX;
     private double moveY;
 
+    // Position at the start of the current simulation tick, used to interpolate rendering
+    private double previousCoordX;
+    private double previousCoordY;
+
+    // Set while the item lives in an entity store, the fields above are then only updated when it leaves
+    EntityStore store;
+    int slot = -1;
+
 
     /**
      * Sets following attributes for item:
@@ -43,6 +53,8 @@ public class OnScreenItems {
         this.itemWidth = itemWidth;
         this.movementSpeed = movementSpeed;
         this.isFacingPlayer = isFacingPlayer;
+        this.previousCoordX = this.itemCoordX;
+        this.previousCoordY = this.itemCoordY;
         //TODO add rotation based on isFacingPlayer
 
     }
@@ -51,6 +63,10 @@ public class OnScreenItems {
      * Moves item to the right, taking direction into account.
      */
     public void moveRight() {
+        if (store != null) {
+            store.moveRight(slot);
+            return;
+        }
         if (isFacingPlayer) {
             moveX = -movementSpeed;
         } else {
@@ -63,6 +79,10 @@ public class OnScreenItems {
      * Moves item to the left, taking direction into account.
      */
     public void moveLeft() {
+        if (store != null) {
+            store.moveLeft(slot);
+            return;
+        }
         moveX = isFacingPlayer ? movementSpeed : -movementSpeed;
         itemCoordX += moveX;
     }
@@ -71,6 +91,10 @@ public class OnScreenItems {
      * Moves item up, taking direction into account.
      */
     public void moveUp() {
+        if (store != null) {
+            store.moveUp(slot);
+            return;
+        }
         moveY = isFacingPlayer ? movementSpeed : -movementSpeed;
         itemCoordY += moveY;
     }
@@ -79,14 +103,108 @@ public class OnScreenItems {
      * Moves item down, taking direction into account.
      */
     public void moveDown() {
+        if (store != null) {
+            store.moveDown(slot);
+            return;
+        }
         moveY = isFacingPlayer ? -movementSpeed : movementSpeed;
         itemCoordY += moveY;
     }
 
+    /**
+     * Remembers the current position as the start of the next simulation tick.
+     */
+    public void savePreviousPosition() {
+        if (store != null) {
+            store.previousX[slot] = store.coordX[slot];
+            store.previousY[slot] = store.coordY[slot];
+            return;
+        }
+        previousCoordX = itemCoordX;
+        previousCoordY = itemCoordY;
+    }
+
+    /**
+     * Places a used item again as if it was new. Only for items that are not in a store.
+     *
+     * @param itemCoordX x position of the center
+     * @param itemCoordY y position of the center
+     * @param isFacingPlayer direction
+     */
+    void reuse(double itemCoordX, double itemCoordY, boolean isFacingPlayer) {
+        this.itemCoordX = itemCoordX-itemWidth/2;
+        this.itemCoordY = itemCoordY-itemHeight/2;
+        this.isFacingPlayer = isFacingPlayer;
+        this.previousCoordX = this.itemCoordX;
+        this.previousCoordY = this.itemCoordY;
+        this.moveX = 0;
+        this.moveY = 0;
+    }
+
+    /**
+     * Lets the item read and write its data in a store slot, or in its own fields if store is null.
+     *
+     * @param store entity store, or null
+     * @param slot slot in the store
+     */
+    void attach(EntityStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Copies the item's data into a store slot. Subclasses add their own data.
+     *
+     * @param store entity store
+     * @param slot slot in the store
+     */
+    void copyTo(EntityStore store, int slot) {
+        store.coordX[slot] = itemCoordX;
+        store.coordY[slot] = itemCoordY;
+        store.previousX[slot] = previousCoordX;
+        store.previousY[slot] = previousCoordY;
+        store.width[slot] = itemWidth;
+        store.height[slot] = itemHeight;
+        store.speed[slot] = movementSpeed;
+        store.facingPlayer[slot] = isFacingPlayer;
+    }
+
+    /**
+     * Copies the item's data back from a store slot. Subclasses add their own data.
+     *
+     * @param store entity store
+     * @param slot slot in the store
+     */
+    void copyFrom(EntityStore store, int slot) {
+        itemCoordX = store.coordX[slot];
+        itemCoordY = store.coordY[slot];
+        previousCoordX = store.previousX[slot];
+        previousCoordY = store.previousY[slot];
+        itemWidth = store.width[slot];
+        itemHeight = store.height[slot];
+        movementSpeed = store.speed[slot];
+        isFacingPlayer = store.facingPlayer[slot];
+    }
+
     /////////************** Getter and setters ***********************
 
+    /**
+     * @return handle from EntityHandles while the item is in the game, else EntityHandles.NO_HANDLE
+     */
+    public long getHandle() {
+        return handle;
+    }
+
+    public double getPreviousCoordX() {
+        return store != null ? store.previousX[slot] : previousCoordX;
+    }
+
+    public double getPreviousCoordY() {
+        return store != null ? store.previousY[slot] : previousCoordY;
+    }
+
     public boolean isFacingPlayer() {
-        return isFacingPlayer;
+        return store != null ? store.facingPlayer[slot] : isFacingPlayer;
     }
 
     public String getImageUrl() {
@@ -98,42 +216,71 @@ public class OnScreenItems {
     }
 
     public double getItemCoordX() {
-        return itemCoordX;
+        return store != null ? store.coordX[slot] : itemCoordX;
     }
 
+    /**
+     * Places the item, without interpolating from the old position.
+     * @param itemCoordX x position
+     */
     public void setItemCoordX(double itemCoordX) {
+        if (store != null) {
+            store.coordX[slot] = itemCoordX;
+            store.previousX[slot] = itemCoordX;
+            return;
+        }
         this.itemCoordX = itemCoordX;
+        this.previousCoordX = itemCoordX;
     }
 
     public double getItemCoordY() {
-        return itemCoordY;
+        return store != null ? store.coordY[slot] : itemCoordY;
     }
 
+    /**
+     * Places the item, without interpolating from the old position.
+     * @param itemCoordY y position
+     */
     public void setItemCoordY(double itemCoordY) {
+        if (store != null) {
+            store.coordY[slot] = itemCoordY;
+            store.previousY[slot] = itemCoordY;
+            return;
+        }
         this.itemCoordY = itemCoordY;
+        this.previousCoordY = itemCoordY;
     }
 
     public double getItemWidth() {
-        return itemWidth;
+        return store != null ? store.width[slot] : itemWidth;
     }
 
     public void setItemWidth(double itemWidth) {
+        if (store != null) {
+            store.width[slot] = itemWidth;
+        }
         this.itemWidth = itemWidth;
     }
 
     public double getItemHeight() {
-        return itemHeight;
+        return store != null ? store.height[slot] : itemHeight;
     }
 
     public void setItemHeight(double itemHeight) {
+        if (store != null) {
+            store.height[slot] = itemHeight;
+        }
         this.itemHeight = itemHeight;
     }
 
     public double getMovementSpeed() {
-        return movementSpeed;
+        return store != null ? store.speed[slot] : movementSpeed;
     }
 
     public void setMovementSpeed(double movementSpeed) {
+        if (store != null) {
+            store.speed[slot] = movementSpeed;
+        }
         this.movementSpeed = movementSpeed;
     }
 
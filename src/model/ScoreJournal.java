@@ -0,0 +1,125 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local journal of scores that haven't reached the database yet. A score is written to the journal and
+ * forced to disk before it counts as submitted, so it survives the database being down or the game closing.
+ * Scores that have been flushed are taken out by rewriting the journal with the rest.
+ * A score may be sent twice if the game stops between the database saving it and the journal being rewritten.
+ */
+public class ScoreJournal {
+
+    private final Path journalPath;
+    private final ArrayList<HighScoreBean> pendingScores = new ArrayList<>();
+    private FileChannel journal;
+
+    /**
+     * Opens the journal, creating it if needed, and reads the scores left in it.
+     *
+     * @param journalPath journal file
+     * @throws IOException if the journal couldn't be opened
+     */
+    public ScoreJournal(Path journalPath) throws IOException {
+        this.journalPath = journalPath;
+        Files.createDirectories(journalPath.getParent());
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd = ScoreRecords.readAll(journal, pendingScores::add);
+        journal.truncate(validEnd);
+        journal.position(validEnd);
+    }
+
+    /**
+     * Writes a score to the journal and waits until it is on disk. If that fails, the journal is cut back to where
+     * the record started, so a score the caller saves some other way isn't sent again from the journal.
+     *
+     * @param score score to submit
+     * @throws IOException if the score couldn't be written
+     */
+    public synchronized void append(HighScoreBean score) throws IOException {
+        long start = journal.position();
+        try {
+            ScoreRecords.write(journal, ScoreRecords.encode(score.getUsername(), score.getScore()));
+            journal.force(false);
+        } catch (IOException e) {
+            try {
+                journal.truncate(start);
+                journal.position(start);
+            } catch (IOException truncateError) {
+                e.addSuppressed(truncateError);
+            }
+            throw e;
+        }
+        pendingScores.add(score);
+        notifyAll();
+    }
+
+    /**
+     * Waits until there are scores in the journal and gives the oldest ones.
+     *
+     * @param maxScores largest number of scores to give
+     * @return oldest scores, in the order they were submitted
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized List<HighScoreBean> waitForScores(int maxScores) throws InterruptedException {
+        while (pendingScores.isEmpty()) {
+            wait();
+        }
+        return new ArrayList<>(pendingScores.subList(0, Math.min(maxScores, pendingScores.size())));
+    }
+
+    /**
+     * Takes the oldest scores out of the journal once they are in the database.
+     *
+     * @param count number of scores from waitForScores that were flushed
+     * @throws IOException if the journal couldn't be rewritten
+     */
+    public synchronized void removeFlushed(int count) throws IOException {
+        List<HighScoreBean> flushedScores = pendingScores.subList(0, count);
+        if (count == pendingScores.size()) {
+            journal.truncate(0);
+            journal.force(false);
+            flushedScores.clear();
+            return;
+        }
+
+        Path rewrittenPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        try (FileChannel rewritten = FileChannel.open(rewrittenPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (HighScoreBean score : pendingScores.subList(count, pendingScores.size())) {
+                ScoreRecords.write(rewritten, ScoreRecords.encode(score.getUsername(), score.getScore()));
+            }
+            rewritten.force(false);
+        }
+        // Closed for the move, which some systems don't allow on an open file. Reopened even if the move fails,
+        // then the old journal is still there and still matches the pending scores.
+        journal.close();
+        try {
+            Files.move(rewrittenPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            journal = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            journal.position(journal.size());
+        }
+        forceDirectory();
+        flushedScores.clear();
+    }
+
+    /**
+     * Forces the directory of the journal to disk, so the move survives a crash. Not every system can open a directory,
+     * and the move is done either way, so a failure is only logged.
+     */
+    private void forceDirectory() {
+        try (FileChannel directory = FileChannel.open(journalPath.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            GameLogger.getLogger().warn("Could not force the score journal directory: " + e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the score records used by the score files: name length, score, name in UTF-8
+ * and a CRC32 checksum of the three. A record that is cut off or doesn't match its checksum ends a file.
+ */
+class ScoreRecords {
+
+    static final int MAX_NAME_BYTES = 1024;
+
+    private ScoreRecords() {
+    }
+
+    /**
+     * Builds the record for a score, names longer than MAX_NAME_BYTES are cut.
+     *
+     * @param name Player alias
+     * @param score Player score
+     * @return record ready to be written
+     */
+    static ByteBuffer encode(String name, int score) {
+        byte[] nameBytes = truncate(name, MAX_NAME_BYTES);
+        ByteBuffer record = ByteBuffer.allocate(12 + nameBytes.length);
+        record.putInt(nameBytes.length).putInt(score).put(nameBytes);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(record.array(), 0, record.position());
+        record.putInt((int) checksum.getValue());
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Reads every whole record with a matching checksum from the start of the file.
+     *
+     * @param file file to read, its position is moved
+     * @param scoreConsumer gets each score in the order they were written
+     * @return position right after the last good record
+     * @throws IOException if the file couldn't be read
+     */
+    static long readAll(FileChannel file, Consumer<HighScoreBean> scoreConsumer) throws IOException {
+        long validEnd = 0;
+        file.position(0);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file)));
+        CRC32 checksum = new CRC32();
+        try {
+            while (true) {
+                int nameLength = input.readInt();
+                if (nameLength < 0 || nameLength > MAX_NAME_BYTES) {
+                    break;
+                }
+                int score = input.readInt();
+                byte[] nameBytes = new byte[nameLength];
+                input.readFully(nameBytes);
+                int storedChecksum = input.readInt();
+
+                checksum.reset();
+                checksum.update(ByteBuffer.allocate(8).putInt(nameLength).putInt(score).array());
+                checksum.update(nameBytes);
+                if ((int) checksum.getValue() != storedChecksum) {
+                    break;
+                }
+                scoreConsumer.accept(new HighScoreBean(new String(nameBytes, StandardCharsets.UTF_8), score));
+                validEnd += 12 + nameLength;
+            }
+        } catch (EOFException e) {
+            // The last record was cut off, everything before it is kept
+        }
+        return validEnd;
+    }
+
+    /**
+     * Writes a whole record.
+     *
+     * @param file file to write to, at its position
+     * @param record record from encode
+     * @throws IOException if the file couldn't be written
+     */
+    static void write(FileChannel file, ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            file.write(record);
+        }
+    }
+
+    /**
+     * UTF-8 bytes of the name, cut at a whole character so they fit in maxBytes.
+     */
+    private static byte[] truncate(String name, int maxBytes) {
+        String cut = name;
+        byte[] bytes = cut.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > maxBytes) {
+            cut = cut.substring(0, cut.offsetByCodePoints(cut.length(), -1));
+            bytes = cut.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+}
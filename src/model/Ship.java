@@ -33,7 +33,7 @@ public class Ship extends OnScreenItems{
      * @return lifes how many lives are left.
      */
     public int getLifes() {
-        return lifes;
+        return store != null ? store.lifes[slot] : lifes;
     }
 
     /**
@@ -41,6 +41,10 @@ public class Ship extends OnScreenItems{
      * @param lifes life count.
      */
     public void setLifes(int lifes) {
+        if (store != null) {
+            store.lifes[slot] = lifes;
+            return;
+        }
         this.lifes = lifes;
     }
 
@@ -49,6 +53,10 @@ public class Ship extends OnScreenItems{
      * @param lifes life count.
      */
     public void looseLife(int lifes) {
+        if (store != null) {
+            store.lifes[slot] -= lifes;
+            return;
+        }
         this.lifes -= lifes;
     }
 
@@ -58,6 +66,10 @@ public class Ship extends OnScreenItems{
      */
     public void setWeapons(Weapons weapon) {
         this.weapon = weapon;
+        if (store != null) {
+            store.readyToShoot[slot] = weapon.readyToShoot;
+            store.shootInterval[slot] = weapon.shootInterval;
+        }
     }
 
     /**
@@ -80,4 +92,21 @@ public class Ship extends OnScreenItems{
         return null;
     }
 
+    @Override
+    void copyTo(EntityStore store, int slot) {
+        super.copyTo(store, slot);
+        store.lifes[slot] = lifes;
+        store.readyToShoot[slot] = weapon != null ? weapon.readyToShoot : 0;
+        store.shootInterval[slot] = weapon != null ? weapon.shootInterval : 0;
+    }
+
+    @Override
+    void copyFrom(EntityStore store, int slot) {
+        super.copyFrom(store, slot);
+        lifes = store.lifes[slot];
+        if (weapon != null) {
+            weapon.readyToShoot = store.readyToShoot[slot];
+        }
+    }
+
 }
@@ -0,0 +1,51 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Double buffered hand over of game snapshots from the simulation thread to the view.
+ * The simulation always writes into its back snapshot and publishes it by swapping it with a shared spare,
+ * the view swaps the spare with its front snapshot when a newer one is ready.
+ * Neither side ever waits for the other, and a published snapshot is never written to while the view reads it.
+ */
+public class SnapshotBuffer {
+
+    private static final int INDEX_MASK = 3;
+    private static final int NEW_SNAPSHOT = 4;
+
+    private final GameSnapshot[] snapshots = {new GameSnapshot(), new GameSnapshot(), new GameSnapshot()};
+    private final AtomicInteger spareIndex = new AtomicInteger(2);
+
+    private int backIndex = 0;
+    private int frontIndex = 1;
+
+    /**
+     * Snapshot to fill, only used by the simulation thread.
+     *
+     * @return back snapshot
+     */
+    public GameSnapshot getBackSnapshot() {
+        return snapshots[backIndex];
+    }
+
+    /**
+     * Makes the back snapshot available to the view, only used by the simulation thread.
+     */
+    public void publish() {
+        snapshots[backIndex].setPublishTime(System.nanoTime());
+        backIndex = spareIndex.getAndSet(backIndex | NEW_SNAPSHOT) & INDEX_MASK;
+    }
+
+    /**
+     * Newest published snapshot, only used by the view.
+     * The returned snapshot stays unchanged until the next call.
+     *
+     * @return front snapshot
+     */
+    public GameSnapshot getFrontSnapshot() {
+        if ((spareIndex.get() & NEW_SNAPSHOT) != 0) {
+            frontIndex = spareIndex.getAndSet(frontIndex) & INDEX_MASK;
+        }
+        return snapshots[frontIndex];
+    }
+}
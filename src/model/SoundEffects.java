@@ -4,13 +4,17 @@ import controller.SpaceInvaderController;
 import javafx.scene.media.AudioClip;
 
 
-import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioFileFormat;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import java.io.File;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class handles the sound.
+ * Sound effects are decoded once and kept in a sound bank, every play replays the cached clip.
+ * Sounds asked for during a tick go through a mixer at the end of the tick, which plays each sound once
+ * and keeps the number of voices within Constants.MAX_SOUND_VOICES.
+ * Playing and stopping sounds is posted to the audio thread, callers never wait for the audio device.
  *
  * @author Isabelle Romhagen, Ludvig Lundin, Khazar Mehraban
  * @version 1.2
@@ -18,42 +22,160 @@ import java.io.File;
 
 public class SoundEffects {
 
-    private static Clip clip;
+    // Only used on the audio thread
+    private static MusicPlayer musicPlayer;
+    private static final ConcurrentHashMap<String, AudioClip> soundBank = new ConcurrentHashMap<>();
+    private static final SoundMixer mixer = new SoundMixer(Constants.MAX_SOUND_VOICES);
+    private static final AudioDispatcher dispatcher = new AudioDispatcher();
+    private static final Runnable MIX_EVENT = SoundEffects::mix;
+    // Only used on the simulation thread, true if a sound was asked for since the last mix
+    private static boolean soundsRequested = false;
+
+    static {
+        mixer.setSound(Constants.ULT_SOUND_URL, 1, 3);
+        mixer.setSound(Constants.POWER_UP_SOUND_URL, 1, 2);
+        mixer.setSound(Constants.LASERSOUNDURL_1, 3, 1);
+        mixer.setSound(Constants.LASERSOUNDURL_2, 3, 1);
+        mixer.setSound(Constants.ENEMY_EXPLOSION, 4, 0);
+    }
 
     /**
-     * Checks if sound is on, and plays if true.
+     * Checks if sound is on, and asks the mixer to play the sound at the end of the tick if true.
      * @param soundPath link to where the sound file is stored
      */
     public static void playSound(String soundPath) {
         if (SpaceInvaderController.getController().isSoundOn()) {
-            AudioClip effect = new AudioClip(new File(soundPath).toURI().toString());
+            dispatcher.post(() -> mixer.request(soundPath));
+            soundsRequested = true;
+        }
+    }
+
+    /**
+     * Plays the sounds asked for during the tick that get a voice in the mixer, on the audio thread.
+     * Nothing is posted if no sound was asked for. The requests go through the audio thread before the mix, so the mixer
+     * has them when it runs.
+     */
+    public static void endTick() {
+        if (soundsRequested) {
+            soundsRequested = false;
+            dispatcher.post(MIX_EVENT);
+        }
+    }
+
+    private static void mix() {
+        mixer.mix(System.nanoTime(), soundPath -> {
+            AudioClip effect = getSound(soundPath);
+            if (effect != null) {
+                effect.play();
+            }
+        }, soundPath -> {
+            AudioClip effect = soundBank.get(soundPath);
+            if (effect != null) {
+                effect.stop();
+            }
+        });
+    }
+
+    /**
+     * Decodes all sound effects into the sound bank, so the first play of each doesn't wait for it.
+     * Can be called from any thread.
+     */
+    public static void preloadSoundEffects() {
+        for (String soundPath : new String[]{Constants.LASERSOUNDURL_1, Constants.LASERSOUNDURL_2, Constants.ENEMY_EXPLOSION,
+                Constants.ULT_SOUND_URL, Constants.POWER_UP_SOUND_URL}) {
+            getSound(soundPath);
+        }
+    }
+
+    /**
+     * Gives the cached clip for a sound effect, decoding it the first time.
+     *
+     * @param soundPath link to where the sound file is stored
+     * @return the clip, or null if the file can't be found
+     */
+    private static AudioClip getSound(String soundPath) {
+        AudioClip effect = soundBank.get(soundPath);
+        if (effect == null) {
+            URL resource = getResource(soundPath);
+            if (resource == null) {
+                return null;
+            }
+            effect = new AudioClip(resource.toExternalForm());
             effect.setVolume(0.2);
-            effect.play();
+            setLength(soundPath, resource);
+            AudioClip loaded = soundBank.putIfAbsent(soundPath, effect);
+            if (loaded != null) {
+                effect = loaded;
+            }
+        }
+        return effect;
+    }
+
+    /**
+     * Tells the mixer how long a sound plays, read from the header of the file.
+     */
+    private static void setLength(String soundPath, URL resource) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(resource);
+            if (format.getFrameLength() > 0 && format.getFormat().getFrameRate() > 0) {
+                mixer.setLength(soundPath, (long) (format.getFrameLength() / format.getFormat().getFrameRate() * 1_000_000_000L));
+            }
+        } catch (Exception ex) {
+            GameLogger.getLogger().error("Could not read the length of " + soundPath + ": " + ex);
+        }
+    }
+
+    /**
+     * Finds a sound file among the resources.
+     *
+     * @param soundPath link to where the sound file is stored
+     * @return url of the file, or null if it can't be found
+     */
+    private static URL getResource(String soundPath) {
+        URL resource = SoundEffects.class.getClassLoader().getResource(soundPath);
+        if (resource == null) {
+            GameLogger.getLogger().warn("Can't find file " + soundPath);
         }
+        return resource;
     }
 
+    /**
+     * Loops the soundtrack on the audio thread if sound is on, streaming it from the file.
+     */
     public static void loopSoundtrack() {
         if (SpaceInvaderController.getController().isSoundOn()) {
-            try {
-                File musicPath = new File(Constants.SOUNDTRACK);
-
-                if (musicPath.exists()) {
-                    AudioInputStream audioInput = AudioSystem.getAudioInputStream(musicPath);
-                    clip = AudioSystem.getClip();
-                    clip.open(audioInput);
-                    clip.start();
-                    clip.loop(Clip.LOOP_CONTINUOUSLY);
-                } else {
-                    System.out.println("Can't find file...");
+            dispatcher.post(() -> {
+                if (musicPlayer == null) {
+                    URL musicPath = getResource(Constants.SOUNDTRACK);
+                    if (musicPath == null) {
+                        return;
+                    }
+                    musicPlayer = new MusicPlayer(musicPath);
                 }
-            } catch (Exception ex) {
-                ex.printStackTrace();
-            }
+                musicPlayer.play();
+            });
         }
     }
 
+    /**
+     * Pauses or resumes the soundtrack where it is.
+     *
+     * @param paused true to pause, false to resume
+     */
+    public static void pauseMusic(boolean paused) {
+        dispatcher.post(() -> {
+            if (musicPlayer != null) {
+                musicPlayer.setPaused(paused);
+            }
+        });
+    }
+
     public static void stopMusic() {
-        clip.stop();
+        dispatcher.post(() -> {
+            if (musicPlayer != null) {
+                musicPlayer.stop();
+            }
+        });
     }
 
 }
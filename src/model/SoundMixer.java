@@ -0,0 +1,161 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.function.Consumer;
+
+/**
+ * Decides which requested sound effects are played, so the number of overlapping voices stays bounded.
+ * Requests of the same sound within one tick are played once. Every sound has its own voice limit, and when
+ * all voices are busy a sound may take over the voices of a sound with lower priority.
+ * A voice counts as busy until the sound has had time to play to the end.
+ */
+public class SoundMixer {
+
+    private static final long DEFAULT_LENGTH_NANOS = 1_000_000_000L;
+
+    private final int maxVoices;
+    private final HashMap<String, SoundSettings> settings = new HashMap<>();
+    private final LinkedHashSet<String> requestedSounds = new LinkedHashSet<>();
+
+    private final String[] voiceSounds;
+    private final long[] voiceEnds;
+    private int voiceCount = 0;
+
+    /**
+     * @param maxVoices number of sounds that may play at the same time
+     */
+    public SoundMixer(int maxVoices) {
+        this.maxVoices = maxVoices;
+        this.voiceSounds = new String[maxVoices];
+        this.voiceEnds = new long[maxVoices];
+    }
+
+    /**
+     * Sets how many voices a sound may use and how important it is. Sounds without settings get one voice and priority 0.
+     *
+     * @param soundPath sound
+     * @param maxVoices number of times the sound may play at the same time
+     * @param priority sounds with higher priority take over voices from sounds with lower
+     */
+    public synchronized void setSound(String soundPath, int maxVoices, int priority) {
+        SoundSettings sound = getSettings(soundPath);
+        sound.maxVoices = maxVoices;
+        sound.priority = priority;
+    }
+
+    /**
+     * Sets how long a sound plays, which is how long it keeps its voice.
+     *
+     * @param soundPath sound
+     * @param lengthNanos length of the sound
+     */
+    public synchronized void setLength(String soundPath, long lengthNanos) {
+        getSettings(soundPath).lengthNanos = lengthNanos;
+    }
+
+    /**
+     * Asks for a sound to be played at the next mix. Asking for the same sound again before that does nothing.
+     *
+     * @param soundPath sound
+     */
+    public synchronized void request(String soundPath) {
+        requestedSounds.add(soundPath);
+    }
+
+    /**
+     * Plays the requested sounds that get a voice, most important first, and forgets the rest.
+     *
+     * @param now current time in nanoseconds
+     * @param play plays a sound
+     * @param stop stops every voice of a sound that lost its voices to a more important one
+     */
+    public synchronized void mix(long now, Consumer<String> play, Consumer<String> stop) {
+        if (requestedSounds.isEmpty()) {
+            return;
+        }
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (voiceEnds[i] <= now) {
+                removeVoice(i);
+            }
+        }
+
+        ArrayList<String> sounds = new ArrayList<>(requestedSounds);
+        requestedSounds.clear();
+        sounds.sort((a, b) -> Integer.compare(getSettings(b).priority, getSettings(a).priority));
+
+        for (String soundPath : sounds) {
+            SoundSettings sound = getSettings(soundPath);
+            if (countVoices(soundPath) >= sound.maxVoices) {
+                continue;
+            }
+            if (voiceCount == maxVoices) {
+                String victim = findVictim(sound.priority);
+                if (victim == null) {
+                    continue;
+                }
+                stop.accept(victim);
+                for (int i = voiceCount - 1; i >= 0; i--) {
+                    if (voiceSounds[i].equals(victim)) {
+                        removeVoice(i);
+                    }
+                }
+            }
+            play.accept(soundPath);
+            voiceSounds[voiceCount] = soundPath;
+            voiceEnds[voiceCount] = now + sound.lengthNanos;
+            voiceCount++;
+        }
+    }
+
+    /**
+     * Finds the sound with the lowest priority below the given one, the oldest voice wins a tie.
+     *
+     * @return the sound, or null if every voice is at least as important
+     */
+    private String findVictim(int priority) {
+        String victim = null;
+        int victimPriority = priority;
+        for (int i = 0; i < voiceCount; i++) {
+            int voicePriority = getSettings(voiceSounds[i]).priority;
+            if (voicePriority < victimPriority) {
+                victim = voiceSounds[i];
+                victimPriority = voicePriority;
+            }
+        }
+        return victim;
+    }
+
+    private int countVoices(String soundPath) {
+        int count = 0;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceSounds[i].equals(soundPath)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes a voice, keeping the rest in the order they started.
+     */
+    private void removeVoice(int index) {
+        System.arraycopy(voiceSounds, index + 1, voiceSounds, index, voiceCount - index - 1);
+        System.arraycopy(voiceEnds, index + 1, voiceEnds, index, voiceCount - index - 1);
+        voiceSounds[--voiceCount] = null;
+    }
+
+    private SoundSettings getSettings(String soundPath) {
+        return settings.computeIfAbsent(soundPath, path -> new SoundSettings());
+    }
+
+    /**
+     * Voice limit, priority and length of one sound.
+     */
+    private static class SoundSettings {
+        private int maxVoices = 1;
+        private int priority = 0;
+        private long lengthNanos = DEFAULT_LENGTH_NANOS;
+    }
+}
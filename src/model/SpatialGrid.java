@@ -0,0 +1,202 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the screen used to find colliding items without testing every pair.
+ * Every item is stored as a hit circle in each cell its bounding box touches, so a query
+ * only has to look at the items in the few cells around it.
+ * Items that lie completely outside the grid are left out, queries only find hits inside it.
+ */
+public class SpatialGrid {
+
+    private final double minX;
+    private final double minY;
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[] cellHeads;
+
+    private int itemCount = 0;
+    private OnScreenItems[] items = new OnScreenItems[64];
+    private double[] centerX = new double[64];
+    private double[] centerY = new double[64];
+    private double[] radius = new double[64];
+
+    private int entryCount = 0;
+    private int[] entryItems = new int[128];
+    private int[] entryNext = new int[128];
+
+    /**
+     * Creates a grid covering the area from (minX, minY) to (maxX, maxY).
+     *
+     * @param minX left edge
+     * @param minY top edge
+     * @param maxX right edge
+     * @param maxY bottom edge
+     * @param cellSize width and height of a cell
+     */
+    public SpatialGrid(double minX, double minY, double maxX, double maxY, double cellSize) {
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil((maxX - minX) / cellSize);
+        this.rows = (int) Math.ceil((maxY - minY) / cellSize);
+        this.cellHeads = new int[columns * rows];
+        Arrays.fill(cellHeads, -1);
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear() {
+        Arrays.fill(cellHeads, -1);
+        Arrays.fill(items, 0, itemCount, null);
+        itemCount = 0;
+        entryCount = 0;
+    }
+
+    /**
+     * Adds an item as a circle around its center. Items are remembered in the order they are added.
+     *
+     * @param item item to add
+     * @param hitRadius radius of the item's hit circle
+     */
+    public void insert(OnScreenItems item, double hitRadius) {
+        insert(item, item.getItemCoordX() + item.getItemWidth() / 2, item.getItemCoordY() + item.getItemHeight() / 2, hitRadius);
+    }
+
+    /**
+     * Adds an item as a circle around a given center.
+     *
+     * @param item item to add
+     * @param x center x of the hit circle
+     * @param y center y of the hit circle
+     * @param hitRadius radius of the item's hit circle
+     */
+    public void insert(OnScreenItems item, double x, double y, double hitRadius) {
+        int firstColumn = column(x - hitRadius);
+        int lastColumn = column(x + hitRadius);
+        int firstRow = row(y - hitRadius);
+        int lastRow = row(y + hitRadius);
+        if (lastColumn < 0 || firstColumn >= columns || lastRow < 0 || firstRow >= rows) {
+            return;
+        }
+
+        if (itemCount == items.length) {
+            int newLength = items.length * 2;
+            items = Arrays.copyOf(items, newLength);
+            centerX = Arrays.copyOf(centerX, newLength);
+            centerY = Arrays.copyOf(centerY, newLength);
+            radius = Arrays.copyOf(radius, newLength);
+        }
+        int index = itemCount++;
+        items[index] = item;
+        centerX[index] = x;
+        centerY[index] = y;
+        radius[index] = hitRadius;
+
+        for (int r = Math.max(firstRow, 0); r <= Math.min(lastRow, rows - 1); r++) {
+            for (int c = Math.max(firstColumn, 0); c <= Math.min(lastColumn, columns - 1); c++) {
+                addEntry(r * columns + c, index);
+            }
+        }
+    }
+
+    /**
+     * Finds the first added item of a type whose hit circle overlaps the given circle.
+     *
+     * @param x center x of the circle
+     * @param y center y of the circle
+     * @param hitRadius radius of the circle
+     * @param type type of item to look for
+     * @return the earliest added overlapping item, or null if none
+     */
+    public OnScreenItems getFirstHit(double x, double y, double hitRadius, Class<? extends OnScreenItems> type) {
+        int firstColumn = Math.max(column(x - hitRadius), 0);
+        int lastColumn = Math.min(column(x + hitRadius), columns - 1);
+        int firstRow = Math.max(row(y - hitRadius), 0);
+        int lastRow = Math.min(row(y + hitRadius), rows - 1);
+
+        int hit = Integer.MAX_VALUE;
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int entry = cellHeads[r * columns + c]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryItems[entry];
+                    if (index < hit && type.isInstance(items[index])) {
+                        double dx = centerX[index] - x;
+                        double dy = centerY[index] - y;
+                        double reach = radius[index] + hitRadius;
+                        if (reach * reach > dx * dx + dy * dy) {
+                            hit = index;
+                        }
+                    }
+                }
+            }
+        }
+        return hit == Integer.MAX_VALUE ? null : items[hit];
+    }
+
+    /**
+     * Finds the first added item of a type that overlaps another item.
+     *
+     * @param item item to test
+     * @param hitRadius radius of the item's hit circle
+     * @param type type of item to look for
+     * @return the earliest added overlapping item, or null if none
+     */
+    public OnScreenItems getFirstHit(OnScreenItems item, double hitRadius, Class<? extends OnScreenItems> type) {
+        return getFirstHit(item.getItemCoordX() + item.getItemWidth() / 2, item.getItemCoordY() + item.getItemHeight() / 2, hitRadius, type);
+    }
+
+    /**
+     * Checks if one particular added item overlaps the given circle, other items of the same type don't count.
+     *
+     * @param target added item to test against
+     * @param item item to test
+     * @param hitRadius radius of the item's hit circle
+     * @return true if the target's hit circle overlaps the item's
+     */
+    public boolean isHit(OnScreenItems target, OnScreenItems item, double hitRadius) {
+        double x = item.getItemCoordX() + item.getItemWidth() / 2;
+        double y = item.getItemCoordY() + item.getItemHeight() / 2;
+        int firstColumn = Math.max(column(x - hitRadius), 0);
+        int lastColumn = Math.min(column(x + hitRadius), columns - 1);
+        int firstRow = Math.max(row(y - hitRadius), 0);
+        int lastRow = Math.min(row(y + hitRadius), rows - 1);
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int entry = cellHeads[r * columns + c]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryItems[entry];
+                    if (items[index] == target) {
+                        double dx = centerX[index] - x;
+                        double dy = centerY[index] - y;
+                        double reach = radius[index] + hitRadius;
+                        return reach * reach > dx * dx + dy * dy;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addEntry(int cell, int index) {
+        if (entryCount == entryItems.length) {
+            entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryItems[entryCount] = index;
+        entryNext[entryCount] = cellHeads[cell];
+        cellHeads[cell] = entryCount++;
+    }
+
+    private int column(double x) {
+        return (int) Math.floor((x - minX) / cellSize);
+    }
+
+    private int row(double y) {
+        return (int) Math.floor((y - minY) / cellSize);
+    }
+}
@@ -17,12 +17,32 @@ public abstract class Weapons {
 
     public abstract IBullet shoot();
 
+    /**
+     * Ticks counted since the last shot, kept in the ship's store slot while the ship is in an entity store.
+     *
+     * @return ticks since last shot
+     */
+    protected int getReadyToShoot() {
+        return theShip.store != null ? theShip.store.readyToShoot[theShip.slot] : readyToShoot;
+    }
+
+    /**
+     * @param readyToShoot ticks since last shot
+     */
+    protected void setReadyToShoot(int readyToShoot) {
+        if (theShip.store != null) {
+            theShip.store.readyToShoot[theShip.slot] = readyToShoot;
+            return;
+        }
+        this.readyToShoot = readyToShoot;
+    }
+
     /**
      * Checks if it's time to shoot again.
      */
     public void addToReadyToShoot() {
-        if (readyToShoot < shootInterval) {
-            readyToShoot++;
+        if (getReadyToShoot() < shootInterval) {
+            setReadyToShoot(getReadyToShoot() + 1);
         }
     }
 
@@ -0,0 +1,131 @@
+package view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import model.Constants;
+import model.GameSnapshot;
+
+import java.util.HashMap;
+
+/**
+ * Draws all entities onto one canvas in a single pass per frame.
+ * The scene graph only has one node for all entities, no matter how many there are.
+ * Sizes and rotations are the same as NodeEntityRenderer gives its image views.
+ * Sprites are cut out of the sprite atlas, so the whole pass draws from one image.
+ */
+public class CanvasEntityRenderer implements IEntityRenderer {
+
+    private final Pane pane;
+    private final Canvas canvas = new Canvas(Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+    private final GraphicsContext graphics = canvas.getGraphicsContext2D();
+    private final SpriteAtlas atlas = SpriteAtlas.getSpriteAtlas();
+    // Sprites missing from the atlas are drawn in one size each, so their scaled image is looked up by url only
+    private final HashMap<String, Image> scaledImages = new HashMap<>();
+
+    /**
+     * @param pane pane to add the canvas to
+     */
+    public CanvasEntityRenderer(Pane pane) {
+        this.pane = pane;
+        canvas.setMouseTransparent(true);
+    }
+
+    @Override
+    public void addToPane() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        pane.getChildren().add(canvas);
+    }
+
+    /**
+     * Clears the canvas and draws every entity at its position between the last two ticks.
+     *
+     * @param snapshot newest snapshot
+     * @param alpha how far the clock has come towards the next tick
+     */
+    @Override
+    public void draw(GameSnapshot snapshot, double alpha) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        int meteorRotation = (int) (snapshot.getTickNumber() * 10 % 360);
+
+        for (int i = 0; i < snapshot.getEntityCount(); i++) {
+            int kind = snapshot.getKind(i);
+            String url;
+            if (kind == GameSnapshot.METEOR) {
+                url = Constants.METEOR_IMAGE;
+            }
+            else {
+                url = kind == GameSnapshot.ENEMY_BULLET ? Constants.ENEMY_BULLET_URL : snapshot.getImageUrl(i);
+            }
+
+            // Sprites in the atlas are drawn as a region of it, so every entity uses the same texture
+            Image image;
+            double sourceX = 0;
+            double sourceY = 0;
+            double sourceWidth;
+            double sourceHeight;
+            Rectangle2D region = atlas.getRegion(url);
+            if (region != null) {
+                image = atlas.getAtlasImage();
+                sourceX = region.getMinX();
+                sourceY = region.getMinY();
+                sourceWidth = region.getWidth();
+                sourceHeight = region.getHeight();
+            }
+            else {
+                image = kind == GameSnapshot.METEOR ? SpriteCache.getSpriteCache().getImage(url)
+                        : getScaledImage(url, snapshot.getWidth(i), snapshot.getHeight(i));
+                sourceWidth = image.getWidth();
+                sourceHeight = image.getHeight();
+            }
+
+            double width;
+            double height;
+            int rotation;
+            if (kind == GameSnapshot.METEOR) {
+                width = sourceWidth;
+                height = sourceHeight;
+                rotation = meteorRotation;
+            }
+            else {
+                // Same as an image view with preserve ratio, fitted inside width and height
+                double scale = Math.min(snapshot.getWidth(i) / sourceWidth, snapshot.getHeight(i) / sourceHeight);
+                width = sourceWidth * scale;
+                height = sourceHeight * scale;
+                rotation = kind == GameSnapshot.ENEMY || kind == GameSnapshot.ENEMY_BULLET ? 180 : 0;
+            }
+
+            double x = snapshot.getRenderX(i, alpha);
+            double y = snapshot.getRenderY(i, alpha);
+            if (rotation == 0) {
+                graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, width, height);
+            }
+            else {
+                graphics.save();
+                graphics.translate(x + width / 2, y + height / 2);
+                graphics.rotate(rotation);
+                graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, -width / 2, -height / 2, width, height);
+                graphics.restore();
+            }
+        }
+    }
+
+    /**
+     * Gives the sprite decoded at the size it is drawn in.
+     *
+     * @param url sprite url
+     * @param width width of the entity
+     * @param height height of the entity
+     * @return scaled image
+     */
+    private Image getScaledImage(String url, double width, double height) {
+        Image image = scaledImages.get(url);
+        if (image == null) {
+            image = SpriteCache.getSpriteCache().getImage(url, width, height, true);
+            scaledImages.put(url, image);
+        }
+        return image;
+    }
+}
@@ -0,0 +1,23 @@
+package view;
+
+import model.GameSnapshot;
+
+/**
+ * Interface for the ways the game view can draw bullets, enemies, meteors and hearts.
+ * Implemented by NodeEntityRenderer and CanvasEntityRenderer, chosen with Constants.USE_CANVAS_RENDERER.
+ */
+public interface IEntityRenderer {
+
+    /**
+     * Adds what the renderer draws with to the game pane. Called every time the pane has been cleared.
+     */
+    void addToPane();
+
+    /**
+     * Draws all entities in the snapshot.
+     *
+     * @param snapshot newest snapshot
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
+     */
+    void draw(GameSnapshot snapshot, double alpha);
+}
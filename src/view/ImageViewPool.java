@@ -0,0 +1,81 @@
+package view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * Reuses image views for bullets, enemies, meteors and hearts.
+ * Released views stay in the pane, hidden and parked off screen, until a new item with the same sprite needs one,
+ * so spawning a wave doesn't add new nodes to the scene graph. Sprites are shown as a region of the
+ * sprite atlas, or come from the sprite cache if they aren't in it.
+ */
+public class ImageViewPool {
+
+    private static final double PARKED_POS = -1000;
+
+    private final Pane pane;
+    private final HashMap<String, ArrayDeque<ImageView>> parkedViews = new HashMap<>();
+
+    /**
+     * @param pane pane that new image views are added to
+     */
+    public ImageViewPool(Pane pane) {
+        this.pane = pane;
+    }
+
+    /**
+     * Gives a visible image view showing the sprite, reusing a parked one if there is one.
+     * A sprite is expected to always be shown in the same size.
+     *
+     * @param url sprite url
+     * @param width width to show the sprite in, 0 for its own size
+     * @param height height to show the sprite in, 0 for its own size
+     * @return image view in the pane
+     */
+    public ImageView acquire(String url, double width, double height) {
+        ArrayDeque<ImageView> parked = parkedViews.get(url);
+        if (parked != null && !parked.isEmpty()) {
+            ImageView imageView = parked.pop();
+            imageView.setVisible(true);
+            return imageView;
+        }
+        ImageView imageView;
+        Rectangle2D region = SpriteAtlas.getSpriteAtlas().getRegion(url);
+        if (region != null) {
+            imageView = new ImageView(SpriteAtlas.getSpriteAtlas().getAtlasImage());
+            imageView.setViewport(region);
+        }
+        else if (width > 0 && height > 0) {
+            imageView = new ImageView(SpriteCache.getSpriteCache().getImage(url, width, height, true));
+        }
+        else {
+            imageView = new ImageView(SpriteCache.getSpriteCache().getImage(url));
+        }
+        imageView.setUserData(url);
+        pane.getChildren().add(imageView);
+        return imageView;
+    }
+
+    /**
+     * Hides the image view and parks it off screen until it is needed again.
+     *
+     * @param imageView image view from acquire
+     */
+    public void release(ImageView imageView) {
+        imageView.setVisible(false);
+        imageView.setX(PARKED_POS);
+        imageView.setY(PARKED_POS);
+        parkedViews.computeIfAbsent((String) imageView.getUserData(), url -> new ArrayDeque<>()).push(imageView);
+    }
+
+    /**
+     * Forgets all parked views, used when the pane has been cleared.
+     */
+    public void clear() {
+        parkedViews.clear();
+    }
+}
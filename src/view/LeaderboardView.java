@@ -0,0 +1,99 @@
+package view;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import model.Constants;
+import model.GameLogger;
+import model.HighScore;
+import model.HighScoreBean;
+
+import java.util.Arrays;
+
+/**
+ * Scrollable list of every high score. Only the rows in view get cells, and the scores are read
+ * Constants.LEADERBOARD_PAGE_SIZE at a time: the next page is asked for when a row within
+ * Constants.LEADERBOARD_PREFETCH of the end is shown, so scrolling seldom reaches a row that isn't loaded.
+ */
+public class LeaderboardView {
+
+    private final ObservableList<HighScoreBean> scores = FXCollections.observableArrayList();
+    private final ListView<HighScoreBean> listView = new ListView<>(scores);
+    private final Text placeholder = new Text("Loading...");
+
+    private boolean loading = false;
+    private boolean reachedEnd = false;
+
+    /**
+     * Creates the list and starts reading the first page.
+     *
+     * @param width width of the list
+     * @param height height of the list
+     */
+    public LeaderboardView(double width, double height) {
+        listView.setPrefSize(width, height);
+        listView.setStyle("-fx-background-color: transparent; -fx-control-inner-background: transparent;");
+        listView.setFocusTraversable(false);
+        placeholder.setFill(Color.color(0.75, 0.9, 0.9));
+        placeholder.setStyle("-fx-font: 18 sergoe;");
+        listView.setPlaceholder(placeholder);
+        listView.setCellFactory(list -> new ScoreCell());
+        loadNextPage();
+    }
+
+    public ListView<HighScoreBean> getListView() {
+        return listView;
+    }
+
+    /**
+     * Reads the page after the last loaded score, unless one is being read or every score is loaded.
+     */
+    private void loadNextPage() {
+        if (loading || reachedEnd) {
+            return;
+        }
+        loading = true;
+        HighScoreBean after = scores.isEmpty() ? null : scores.get(scores.size() - 1);
+        HighScore.getHighScore().getScorePageAsync(after, Constants.LEADERBOARD_PAGE_SIZE).whenCompleteAsync((page, error) -> {
+            loading = false;
+            if (error != null) {
+                GameLogger.getLogger().error(error.toString());
+                placeholder.setText("Could not read scores");
+                return;
+            }
+            reachedEnd = page.length < Constants.LEADERBOARD_PAGE_SIZE;
+            scores.addAll(Arrays.asList(page));
+            if (scores.isEmpty()) {
+                placeholder.setText("No scores yet");
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Row showing rank, name and score, asks for the next page when it is near the end of the loaded scores.
+     */
+    private class ScoreCell extends ListCell<HighScoreBean> {
+
+        private ScoreCell() {
+            setStyle("-fx-background-color: transparent; -fx-font: 18 sergoe;");
+            setTextFill(Color.color(0.75, 0.9, 0.9));
+        }
+
+        @Override
+        protected void updateItem(HighScoreBean score, boolean empty) {
+            super.updateItem(score, empty);
+            if (empty || score == null) {
+                setText(null);
+                return;
+            }
+            setText((getIndex() + 1) + ". " + score.getUsername() + " : " + score.getScore());
+            if (getIndex() >= scores.size() - Constants.LEADERBOARD_PREFETCH) {
+                loadNextPage();
+            }
+        }
+    }
+}
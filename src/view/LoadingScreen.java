@@ -0,0 +1,139 @@
+package view;
+
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import model.Constants;
+import model.GameLogger;
+import model.SoundEffects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shows a progress bar at startup while all images, the first background tiles and the sound effects
+ * are decoded on a pool of worker threads. When everything is loaded the sprites are put in the sprite cache,
+ * the sprite atlas is packed and the game is started, so neither the menu nor the first in-game frame
+ * waits for a file to be read.
+ */
+public class LoadingScreen {
+
+    /**
+     * Menu and in-game sprites that are not in the sprite atlas, at the sizes the views ask for them in.
+     */
+    private static final SpriteCache.Sprite[] UI_SPRITES = {
+            new SpriteCache.Sprite(Constants.GAME_BOOT_SCENE_BACK_GROUND, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT, false),
+            new SpriteCache.Sprite(Constants.BUTTON_BG_URL, Constants.MENU_BUTTON_WIDTH, Constants.MENU_BUTTON_HEIGHT, false),
+            new SpriteCache.Sprite(Constants.BUTTON_BG_CLICKED_URL, Constants.MENU_BUTTON_WIDTH, Constants.MENU_BUTTON_HEIGHT, false),
+            new SpriteCache.Sprite(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.6, Constants.SCREEN_HEIGHT * 0.6, false),
+            new SpriteCache.Sprite(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
+            new SpriteCache.Sprite(Constants.HELP_BACK_GROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
+            new SpriteCache.Sprite(Constants.ULTI_IMAGE_URL),
+            new SpriteCache.Sprite(Constants.PLAYER_SHIP_URL),
+            new SpriteCache.Sprite(Constants.GREEN_PLAYER_SHIP_URL),
+            new SpriteCache.Sprite(Constants.BLUE_PLAYER_SHIP_URL),
+            new SpriteCache.Sprite(Constants.RED_PLAYER_SHIP_URL),
+            new SpriteCache.Sprite(Constants.PLAYER_SHIP_URL, Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.GREEN_PLAYER_SHIP_URL, Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.BLUE_PLAYER_SHIP_URL, Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.RED_PLAYER_SHIP_URL, Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true)
+    };
+
+    private final Stage stage;
+    private final Runnable onLoaded;
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final ArrayList<SpriteCache.Sprite> sprites = new ArrayList<>();
+    private final Map<SpriteCache.Sprite, Image> decodedSprites = new ConcurrentHashMap<>();
+    private final ExecutorService loaders = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+        Thread thread = new Thread(runnable, "Asset loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int taskCount;
+    private int doneCount;
+
+    /**
+     * Shows the loading screen in the window.
+     *
+     * @param stage window
+     * @param onLoaded run on the JavaFX thread when everything is loaded
+     */
+    public LoadingScreen(Stage stage, Runnable onLoaded) {
+        this.stage = stage;
+        this.onLoaded = onLoaded;
+
+        Text loadingText = new Text("Loading...");
+        loadingText.setFont(Font.font("Verdana", 30));
+        loadingText.setFill(Color.WHITE);
+        progressBar.setPrefWidth(Constants.SCREEN_WIDTH * 0.4);
+
+        VBox loadingBox = new VBox(20, loadingText, progressBar);
+        loadingBox.setAlignment(Pos.CENTER);
+        loadingBox.setStyle("-fx-background-color: black;");
+
+        stage.setTitle("PixelSurvivor");
+        stage.setScene(new Scene(loadingBox, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT));
+        stage.setResizable(false);
+        stage.show();
+    }
+
+    /**
+     * Starts decoding everything on the worker threads. Must be called on the JavaFX thread.
+     */
+    public void load() {
+        sprites.addAll(Arrays.asList(SpriteAtlas.SPRITES));
+        sprites.addAll(Arrays.asList(UI_SPRITES));
+        taskCount = sprites.size() + 2;
+
+        for (SpriteCache.Sprite sprite : sprites) {
+            runInBackground(() -> decodedSprites.put(sprite, sprite.decode()));
+        }
+        runInBackground(() -> TiledBackground.preload(Constants.BACKGROUND_FIRST_START_Y, Constants.BACKGROUND_SECOND_START_Y));
+        runInBackground(SoundEffects::preloadSoundEffects);
+    }
+
+    /**
+     * Runs a loading task on a worker thread and counts it as done on the JavaFX thread, even if it failed.
+     */
+    private void runInBackground(Runnable task) {
+        loaders.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                GameLogger.getLogger().error("Loading failed: " + e);
+            }
+            Platform.runLater(this::taskDone);
+        });
+    }
+
+    /**
+     * Moves the progress bar, and when the last task is done hands the sprites to the sprite cache and starts the game.
+     */
+    private void taskDone() {
+        doneCount++;
+        progressBar.setProgress((double) doneCount / taskCount);
+        if (doneCount == taskCount) {
+            loaders.shutdown();
+            for (SpriteCache.Sprite sprite : sprites) {
+                Image image = decodedSprites.get(sprite);
+                if (image != null) {
+                    SpriteCache.getSpriteCache().add(sprite, image);
+                }
+            }
+            SpriteAtlas.getSpriteAtlas();
+            onLoaded.run();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package view;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import model.Constants;
+import model.EntityHandles;
+import model.GameSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * Draws every entity as its own image view in the game pane.
+ */
+public class NodeEntityRenderer implements IEntityRenderer {
+
+    private final ImageViewPool imagePool;
+
+    // Image, handle and last drawn frame of the entity in each handle slot
+    private ImageView[] slotImages = new ImageView[64];
+    private long[] slotHandles = new long[64];
+    private int[] slotFrames = new int[64];
+    private int frame = 0;
+
+    // Slots drawn in the last frame, and the slots being drawn in this one
+    private int[] drawnSlots = new int[64];
+    private int drawnCount = 0;
+    private int[] nextDrawnSlots = new int[64];
+
+    /**
+     * @param pane pane to add the image views to
+     */
+    public NodeEntityRenderer(Pane pane) {
+        imagePool = new ImageViewPool(pane);
+    }
+
+    /**
+     * Forgets all images, they went away when the pane was cleared.
+     */
+    @Override
+    public void addToPane() {
+        Arrays.fill(slotImages, null);
+        drawnCount = 0;
+        imagePool.clear();
+    }
+
+    /**
+     * Matches bullet, enemy, meteor and heart images with the entities in the snapshot.
+     * Images are kept at the slot of the entity's handle, new entities get an image from the pool and images of
+     * entities that are gone are given back to it. Both take the same time however many entities are gone.
+     *
+     * @param snapshot newest snapshot
+     * @param alpha how far the clock has come towards the next tick
+     */
+    @Override
+    public void draw(GameSnapshot snapshot, double alpha) {
+        frame++;
+        int rotation = (int) (snapshot.getTickNumber() * 10 % 360);
+        int entityCount = snapshot.getEntityCount();
+        if (nextDrawnSlots.length < entityCount) {
+            nextDrawnSlots = new int[Math.max(entityCount, nextDrawnSlots.length * 2)];
+        }
+        for (int i = 0; i < entityCount; i++) {
+            long handle = snapshot.getHandle(i);
+            int slot = EntityHandles.slotOf(handle);
+            if (slot >= slotImages.length) {
+                growSlots(slot + 1);
+            }
+            ImageView image = slotImages[slot];
+            if (image != null && slotHandles[slot] != handle) {
+                // The slot was freed and taken by a new entity since the last frame
+                imagePool.release(image);
+                image = null;
+            }
+            if (image == null) {
+                image = createEntityImage(snapshot, i);
+                slotImages[slot] = image;
+                slotHandles[slot] = handle;
+            }
+            image.setX(snapshot.getRenderX(i, alpha));
+            image.setY(snapshot.getRenderY(i, alpha));
+            if (snapshot.getKind(i) == GameSnapshot.METEOR) {
+                image.setRotate(rotation);
+            }
+            slotFrames[slot] = frame;
+            nextDrawnSlots[i] = slot;
+        }
+        for (int i = 0; i < drawnCount; i++) {
+            int slot = drawnSlots[i];
+            if (slotFrames[slot] != frame && slotImages[slot] != null) {
+                imagePool.release(slotImages[slot]);
+                slotImages[slot] = null;
+            }
+        }
+
+        int[] swap = drawnSlots;
+        drawnSlots = nextDrawnSlots;
+        nextDrawnSlots = swap;
+        drawnCount = entityCount;
+    }
+
+    private void growSlots(int minimumSize) {
+        int size = Math.max(minimumSize, slotImages.length * 2);
+        slotImages = Arrays.copyOf(slotImages, size);
+        slotHandles = Arrays.copyOf(slotHandles, size);
+        slotFrames = Arrays.copyOf(slotFrames, size);
+    }
+
+    /**
+     * Takes an image for a bullet, enemy, meteor or heart in the snapshot from the image pool.
+     *
+     * @param snapshot newest snapshot
+     * @param index index of the entity in the snapshot
+     * @return image in the pane
+     */
+    private ImageView createEntityImage(GameSnapshot snapshot, int index) {
+        int kind = snapshot.getKind(index);
+        if (kind == GameSnapshot.METEOR) {
+            return imagePool.acquire(Constants.METEOR_IMAGE, 0, 0);
+        }
+        double width = snapshot.getWidth(index);
+        double height = snapshot.getHeight(index);
+        ImageView image;
+        if (kind == GameSnapshot.ENEMY_BULLET) {
+            image = imagePool.acquire(Constants.ENEMY_BULLET_URL, width, height);
+            image.setRotate(180);
+        }
+        else {
+            image = imagePool.acquire(snapshot.getImageUrl(index), width, height);
+            image.setRotate(kind == GameSnapshot.ENEMY ? 180 : 0);
+        }
+        image.setPreserveRatio(true);
+        image.setFitHeight(height);
+        image.setFitWidth(width);
+        return image;
+    }
+}
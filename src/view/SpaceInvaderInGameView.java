@@ -1,9 +1,11 @@
 package view;
 
+import controller.GameSimulation;
 import controller.SpaceInvaderButtonListener;
 import controller.SpaceInvaderController;
 import controller.SpaceInvaderListener;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -13,6 +15,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
@@ -25,6 +28,7 @@ import java.util.ArrayList;
 
 /**
  * This class handles everything that is visible in game play.
+ * Draws from snapshots published by the simulation thread and never reads the live models while the game runs.
  * Implements IViewState.
  *
  * @author Isabelle Romhagen, Ludvig Lundin, Mattias Frigren
@@ -39,29 +43,31 @@ public class SpaceInvaderInGameView implements IViewState {
     private static AnchorPane gamePane;
     private static Scene gameScene;
     private static SpaceInvaderController controller;
+    private static GameSimulation simulation;
 
-    private ArrayList<ImageView> enemiesImageList = new ArrayList<>();
-    private ArrayList<ImageView> bulletsImageList = new ArrayList<>();
-    private ImageView meteorImage;
-    private ImageView hpUpHeart;
+    private IEntityRenderer entityRenderer;
 
     private ImageView playerImage;
-    private ImageView ultImage = new ImageView(Constants.ULTI_IMAGE_URL);
-    private ImageView firstBackGroundImage = new ImageView(Constants.IN_GAME_BACK_GROUND_IMAGE);
-    private ImageView secondBackGroundImage = new ImageView(Constants.IN_GAME_BACK_GROUND_IMAGE);
+    private ImageView ultImage = new ImageView(SpriteCache.getSpriteCache().getImage(Constants.ULTI_IMAGE_URL));
+    private TiledBackground backGround;
     private ArrayList<ImageView> playerLifeImages;
     private Label pointsLabel;
+    private int shownPoints = -1;
 
     private TextField enterNameField;
-    private int rotation=0;
 
-    private int ultTimer;
+    private boolean ultShown;
     private ProgressBar ultbar = new ProgressBar(0);
 
     private SubScene deathSubScene;
+    private Button saveScoreButton;
+    private boolean deathSceneShown;
 
     private AnimationTimer inGameTimer;
+    private long lastDrawnTick;
 
+    private double firstBackGroundY;
+    private double secondBackGroundY;
 
     /////////************** Getter and setters ***********************
 
@@ -94,7 +100,16 @@ public class SpaceInvaderInGameView implements IViewState {
         model = InGameModel.getGameModel();
         gamePane = new AnchorPane();
         gameScene = new Scene(gamePane, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+        backGround = new TiledBackground(gamePane);
+        if (Constants.USE_CANVAS_RENDERER) {
+            entityRenderer = new CanvasEntityRenderer(gamePane);
+        }
+        else {
+            entityRenderer = new NodeEntityRenderer(gamePane);
+        }
         controller = SpaceInvaderController.getController();
+        simulation = new GameSimulation(controller, model);
+        simulation.publishSnapshot();
         initializeLevelToPane();
         initializeGameListener();
         createGameLoop();
@@ -103,158 +118,132 @@ public class SpaceInvaderInGameView implements IViewState {
     }
 
     /**
-     * Clears all enemies, bullets, meteors and power ups in order to be able to start over.
+     * Clears all images in order to be able to start over. The simulation must be stopped before the model is reset.
      */
     public void resetGame() {
         gamePane.getChildren().clear();
-        enemiesImageList.clear();
-        bulletsImageList.clear();
         playerLifeImages.clear();
-        meteorImage = null;
-        hpUpHeart = null;
+        ultShown = false;
+        deathSceneShown = false;
+        shownPoints = -1;
+        simulation.publishSnapshot();
         initializeLevelToPane();
     }
 
     /**
-     * Starts the animator. Loops to check status on whether player or enemy is shooting, models,
-     * images and if current level is finished.
+     * Starts the animator and the simulation thread. Every frame draws the newest snapshot,
+     * moved towards the next tick by the time passed since it was published.
      */
     private void createGameLoop() {
         inGameTimer = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                updateIfPlayerIsShooting();
-                updateIfEnemyIsShooting();
-                updateAllModels();
-                updateAllImageviews();
-                updateIfLevelIsDone();
+                GameSnapshot snapshot = simulation.getSnapshot();
+                double alpha = (double) (now - snapshot.getPublishTime()) / Constants.SIMULATION_TICK_NANOS;
+                alpha = Math.max(0, Math.min(1, alpha));
+                updateAllImageviews(snapshot, alpha);
+                updateIfLevelIsDone(snapshot);
 
             }
         };
 
         inGameTimer.start();
+        simulation.start();
     }
 
-    /**
-     * Plays and loops soundtrack.
-     */
-
 
     /****************** update Methods below  ******************************/
 
-    /**
-     * Checks status on all item models.
-     */
-    private void updateAllModels() {
-        controller.updateBullets();
-        controller.updateWeaponsState();
-        controller.updatePlayerMovement();
-        controller.checkIfEnemyIsmoving();
-        controller.moveMeteorModel();
-        controller.checkIfMeteorCollide();
-        controller.moveHpUpHeart();
-
-    }
-
     /**
      * Checks status on all item views.
+     *
+     * @param snapshot newest snapshot from the simulation
+     * @param alpha how far the clock has come towards the next tick, 0 to 1
      */
-    private void updateAllImageviews() {
-        updateIfSpawnNewEnemies();
-        updateBackGround();
-        updateBulletsImage();
-        updatePlayerImage();
-        updateEnemyImages();
-        updatePointsLabel();
-        updatePlayerLifeImages();
-        updateMeteorImages();
-        updateMeteorRotation();
-        updateHpUpHeart();
-        updateUltImage();
-        updateUltbar();
+    private void updateAllImageviews(GameSnapshot snapshot, double alpha) {
+        updateBackGroundPosition(snapshot, alpha);
+        entityRenderer.draw(snapshot, alpha);
+        updatePlayerImage(snapshot, alpha);
+        updatePointsLabel(snapshot);
+        updatePlayerLifeImages(snapshot);
+        updateUltImage(snapshot);
+        updateUltbar(snapshot);
     }
 
     /**
      * Increases progress if it's time.
+     *
+     * @param snapshot newest snapshot
      */
-    private void updateUltbar() {
+    private void updateUltbar(GameSnapshot snapshot) {
 
-        if (model.getPlayerModel().IsUltReady()) {
+        if (snapshot.isUltReady()) {
             ultbar.setProgress(1);
         }
         else {
-            double percentsOfUlt = (double) model.getPlayerModel().getUltCounter()/Constants.ULT_READY_AT;
+            double percentsOfUlt = (double) snapshot.getUltCounter()/Constants.ULT_READY_AT;
             ultbar.setProgress(percentsOfUlt);
         }
 
     }
 
     /**
-     * Updates the ult bar image, calls method to initialize ult if it's ready.
+     * Shows the ult image from the tick it was used until it has been shown long enough.
+     *
+     * @param snapshot newest snapshot
      */
-    private void updateUltImage() {
-        ultTimer++;
-        if (controller.checkIfPlayerIsUlting()){
-            initializeUlt();
+    private void updateUltImage(GameSnapshot snapshot) {
+        long ultTick = snapshot.getUltActivatedTick();
+        boolean showUlt = ultTick >= 0 && snapshot.getTickNumber() - ultTick < Constants.MAX_FRAMES_TO_SHOW_ULT;
+        if (showUlt && !ultShown) {
+            addToGamePane(ultImage);
         }
-        if (ultTimer >= Constants.MAX_FRAMES_TO_SHOW_ULT){
-            removeUlt();
+        else if (!showUlt && ultShown) {
+            removeFromGamePane(ultImage);
         }
+        ultShown = showUlt;
     }
 
     /**
-     * Puts player's current points on a label.
+     * Puts player's current points on a label, only when they have changed.
+     *
+     * @param snapshot newest snapshot
      */
-    private void updatePointsLabel() {
-        int myPoints = model.getPoints();
-        String pointText = "Points: " + myPoints;
-        pointsLabel.setText(pointText);
+    private void updatePointsLabel(GameSnapshot snapshot) {
+        int myPoints = snapshot.getPoints();
+        if (myPoints != shownPoints) {
+            shownPoints = myPoints;
+            pointsLabel.setText("Points: " + myPoints);
+        }
     }
 
     /**
      * Checks if player is out of lives.
      * Shows Game Over sub scene and stops game if true.
+     *
+     * @param snapshot newest snapshot
      */
-    private void updateIfLevelIsDone() {
-        if (model.getPlayerModel().getLifes() <=0) {
+    private void updateIfLevelIsDone(GameSnapshot snapshot) {
+        if (snapshot.isGameOver() && !deathSceneShown) {
+            deathSceneShown = true;
+            setAnimationTimer(false);
             initializeDeathSubScene(false);
-            inGameTimer.stop();
-        }
-    }
-
-    /**
-     * Creates an array of enemy models, loops through it, sets image, position, preserve ratio, height, width and direction for each enemy.
-     * Adds them to the pane.
-     */
-    private void updateIfSpawnNewEnemies() {
-        ArrayList<EnemyShip> modelEnemies = controller.checkWhatToSpawn();
-        if (modelEnemies != null) {
-            for (EnemyShip modelEnemy: modelEnemies) {
-                ImageView enemyImage = new ImageView(modelEnemy.getImageUrl());
-                enemyImage.setY(modelEnemy.getItemCoordY());
-                enemyImage.setX(modelEnemy.getItemCoordX());
-                enemyImage.setPreserveRatio(true);
-                enemyImage.setFitHeight(modelEnemy.getItemHeight());
-                enemyImage.setFitWidth(modelEnemy.getItemWidth());
-                enemyImage.setRotate(180);
-                enemiesImageList.add(enemyImage);
-                addToGamePane(enemyImage);
-            }
         }
     }
 
     /**
      * Matches life images with player lives.
-     * Stops game if player is out of lives.
+     *
+     * @param snapshot newest snapshot
      */
-    private void updatePlayerLifeImages() {
-        int playerLifes = model.getPlayerModel().getLifes();
+    private void updatePlayerLifeImages(GameSnapshot snapshot) {
+        int playerLifes = snapshot.getPlayerLifes();
 
         if (playerLifes != playerLifeImages.size()) {
             int differenceInLife = playerLifeImages.size() - playerLifes;
             for (int i = 0; i < Math.abs(differenceInLife) ; i++) {
                 if (differenceInLife < 0) {
-                    createPlayerLifeImage(playerLifeImages.size());
+                    createPlayerLifeImage(snapshot, playerLifeImages.size());
                 }
                 else {
                     removeFromGamePane(playerLifeImages.get(playerLifeImages.size()-1));
@@ -262,157 +251,49 @@ public class SpaceInvaderInGameView implements IViewState {
                 }
             }
         }
-        if (playerLifes < 1) {
-            initializeDeathSubScene(false);
-            inGameTimer.stop();
-        }
     }
 
     /**
-     * Updates player image according to player model.
+     * Updates player image according to the snapshot.
+     *
+     * @param snapshot newest snapshot
+     * @param alpha how far the clock has come towards the next tick
      */
-    private void updatePlayerImage() {
-        PlayerShip player = model.getPlayerModel();
-        playerImage.setX(player.getItemCoordX());
-        playerImage.setY(player.getItemCoordY());
+    private void updatePlayerImage(GameSnapshot snapshot, double alpha) {
+        playerImage.setX(snapshot.getPlayerRenderX(alpha));
+        playerImage.setY(snapshot.getPlayerRenderY(alpha));
 
     }
 
     /**
-     * Updates the bullets images to mirror the model bullets.
-     * Adds all bullets who are out of screen and those who collided to bulletsToRemove.
-     * Removes the model bullet from the list, removes bullet image from pane and list.
-     */
-    private void updateBulletsImage() {
-        ArrayList<IBullet> bulletsModelList = model.getBulletsModelList();
-
-        if (!bulletsImageList.isEmpty()) {
-            for (int i = 0; i < bulletsImageList.size(); i++) {
-                ImageView theImageBullet = bulletsImageList.get(i);
-                if (i < bulletsModelList.size()) {
-                    OnScreenItems theModelBullet = (OnScreenItems) bulletsModelList.get(i);
-                    theImageBullet.setX(theModelBullet.getItemCoordX());
-                    theImageBullet.setY(theModelBullet.getItemCoordY());
-                }
-            }
-        }
-        ArrayList<IBullet> bulletsToRemove = controller.getBulletRemoveList();
-        for (IBullet bullet : bulletsToRemove) {
-            int bulletIndex = bulletsModelList.indexOf(bullet);
-            model.getBulletsModelList().remove(bulletIndex);
-            removeFromGamePane(bulletsImageList.get(bulletIndex));
-            bulletsImageList.remove(bulletIndex);
-            System.out.println("Bullet removed");
-        }
-        ArrayList<IBullet> bulletsToRemoveMeteor = controller.checkIfMeteorShoot();
-        if (bulletsToRemoveMeteor != null) {
-            for (IBullet bullet : bulletsToRemoveMeteor) {
-                int bulletIndexFromMeteor = bulletsModelList.indexOf(bullet);
-                model.getBulletsModelList().remove(bulletIndexFromMeteor);
-                removeFromGamePane(bulletsImageList.get(bulletIndexFromMeteor));
-                bulletsImageList.remove(bulletIndexFromMeteor);
-                System.out.println("remove bullet from meteorshoot");
+     * Rolls the game background one step for every tick since the last frame.
+     *
+     * @param snapshot newest snapshot
+     */
+    private void updateBackGround(GameSnapshot snapshot) {
+        long ticks = snapshot.getTickNumber() - lastDrawnTick;
+        lastDrawnTick = snapshot.getTickNumber();
+        for (long i = 0; i < ticks; i++) {
+            firstBackGroundY += 6;
+            secondBackGroundY += 6;
+            if (firstBackGroundY >= Constants.SCREEN_HEIGHT) {
+                firstBackGroundY = -34780;
             }
-        }
-
-    }
-
-    /**
-     * Removes heart power up if it doesn't exist in the model.
-     * Sets position if it exists.
-     */
-    private void updateHpUpHeart() {
-        if (model.getHeartHpUp()==null && hpUpHeart!=null) {
-            removeFromGamePane(hpUpHeart);
-        }
-        if (model.getHeartHpUp()!=null) {
-            hpUpHeart.setY(model.getHeartHpUp().getItemCoordY());
-            hpUpHeart.setX(model.getHeartHpUp().getItemCoordX());
-        }
-    }
-
-    /**
-     * Updates the meteor image according to the model meteor, removes it if it doesn't exist.
-     */
-    private void updateMeteorImages() {
-        if (model.getModelMeteor() ==null && meteorImage !=null) {
-            removeFromGamePane(meteorImage);
-             }
-        if (model.getModelMeteor() !=null) {
-                meteorImage.setY(model.getModelMeteor().getItemCoordY());
-                meteorImage.setX(model.getModelMeteor().getItemCoordX());
+            if (secondBackGroundY >= Constants.SCREEN_HEIGHT) {
+                secondBackGroundY = -34780;
             }
-    }
-
-    /**
-     * Rotates the meteor.
-     */
-    private void updateMeteorRotation() {
-        if (meteorImage !=null){
-            meteorImage.setRotate(rotation);
-
-           if (rotation >= 360) {
-               rotation=0;
-           }
-        }
-        rotation+=10;
-    }
-
-    /**
-     * Loops through all enemies and updates their position/removes them according to model enemies.
-     */
-    private void updateEnemyImages() {
-        ArrayList<EnemyShip> allEnemyModels = model.getEnemyModelList();
-        ArrayList<EnemyShip> modelEnemiesToRemove = controller.getDeadEnemies();
-
-        for (int i = 0; i < allEnemyModels.size() ; i++) {
-            enemiesImageList.get(i).setY(allEnemyModels.get(i).getItemCoordY());
-            enemiesImageList.get(i).setX(allEnemyModels.get(i).getItemCoordX());
-        }
-
-      if (!modelEnemiesToRemove.isEmpty()) {
-          for (EnemyShip enemyModel : modelEnemiesToRemove) {
-              int enemyIndex = allEnemyModels.indexOf(enemyModel);
-              model.getEnemyModelList().remove(enemyIndex);
-              removeFromGamePane(enemiesImageList.get(enemyIndex));
-              enemiesImageList.remove(enemyIndex);
-              System.out.println("Enemy images removed");
-          }
-      }
-    }
-
-    /**
-     * Creates bullet if the player is shooting.
-     */
-    private void updateIfPlayerIsShooting() {
-        IBullet currentBullet = controller.checkIfPlayerIsShooting();
-        if (currentBullet != null) {
-            createBullet(currentBullet);
         }
     }
 
     /**
-     * Creates bullet if an enemy is shooting.
-     */
-    private void updateIfEnemyIsShooting() {
-        ArrayList<IBullet> allEnemyModelBullets = controller.checkIfEnemyIsShooting();
-        for (IBullet enemyModelBullet: allEnemyModelBullets) {
-            createBullet(enemyModelBullet);
-        }
-    }
-
-    /**
-     * Rolls the game background.
+     * Moves the background tiles between the last two ticks.
+     *
+     * @param snapshot newest snapshot
+     * @param alpha how far the clock has come towards the next tick
      */
-    private void updateBackGround() {
-        firstBackGroundImage.setY(firstBackGroundImage.getY() + 6);
-        secondBackGroundImage.setY(secondBackGroundImage.getY() + 6);
-        if (firstBackGroundImage.getY() >= Constants.SCREEN_HEIGHT) {
-            firstBackGroundImage.setY(-34780);
-        }
-        if (secondBackGroundImage.getY() >= Constants.SCREEN_HEIGHT) {
-            secondBackGroundImage.setY(-34780);
-        }
+    private void updateBackGroundPosition(GameSnapshot snapshot, double alpha) {
+        updateBackGround(snapshot);
+        backGround.draw(firstBackGroundY + 6 * alpha, secondBackGroundY + 6 * alpha);
     }
 
     /****************** update Methods ENDS  ******************************/
@@ -423,17 +304,19 @@ public class SpaceInvaderInGameView implements IViewState {
      * Initializes all elements needed for the game.
      */
     private void initializeLevelToPane() {
-
+        GameSnapshot snapshot = simulation.getSnapshot();
+        lastDrawnTick = snapshot.getTickNumber();
         initializeBackground();
         initializePointLabel();
         initializeProgressBar();
         initializeHighscorePointLabel();
-        initializePlayerLifes();
-        initializePlayer();
-        initializeEnemies();
-        //TODO add all starting images.
+        initializePlayerLifes(snapshot);
+        initializePlayer(snapshot);
+        entityRenderer.addToPane();
+        entityRenderer.draw(snapshot, 0);
     }
 
+
     /**
      * Sets a point label with its attributes on the pane.
      * Shows player's current score.
@@ -443,8 +326,6 @@ public class SpaceInvaderInGameView implements IViewState {
         pointsLabel.setTextFill(Color.ORANGERED);
         pointsLabel.setPrefWidth(130); // TODO CHANGE TO CONSTANTS
         pointsLabel.setPrefHeight(50);
-        BackgroundImage backgroundImage = new BackgroundImage(new Image(Constants.POINT_LABEL_BACK_GROUND, 130,50,false,true), BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
-        //pointsLabel.setBackground(new Background(backgroundImage));
         pointsLabel.setAlignment(Pos.CENTER_LEFT);
         pointsLabel.setPadding(new Insets(10,10,10,10));
         pointsLabel.setFont(Font.font("Verdana", 15));
@@ -455,11 +336,19 @@ public class SpaceInvaderInGameView implements IViewState {
 
     /**
      * Sets a high score point label with its attributes on the pane.
-     * Shows the highest score so far.
+     * Shows the highest score so far once it has been read from the database, or that it couldn't be read.
      */
     private void initializeHighscorePointLabel() {
-        String currentHighscore = Integer.toString(HighScore.getHighScore().getBestHighestScore());
-        Label highScoreLabel = new Label("Highscore: " + currentHighscore);
+        Label highScoreLabel = new Label("Highscore: ...");
+        HighScore.getHighScore().getBestHighestScoreAsync().whenCompleteAsync((highScore, error) -> {
+            if (error != null) {
+                GameLogger.getLogger().error("Could not read the high score: " + error);
+                highScoreLabel.setText("Highscore: -");
+            }
+            else {
+                highScoreLabel.setText("Highscore: " + highScore);
+            }
+        }, Platform::runLater);
         highScoreLabel.setTextFill(Color.ORANGERED);
         highScoreLabel.setPrefWidth(130); // TODO CHANGE TO CONSTANTS
         highScoreLabel.setPrefHeight(50);
@@ -477,46 +366,9 @@ public class SpaceInvaderInGameView implements IViewState {
      * Sets the game backgrounds positions and adds it to pane.
      */
     private void initializeBackground() {
-        secondBackGroundImage.setY(-34780);
-        firstBackGroundImage.setY(-17380);
-        addToGamePane(firstBackGroundImage);
-        addToGamePane(secondBackGroundImage);
-    }
-
-    /**
-     * Puts the right amount of player lives on screen.
-     */
-    private void initializePlayerLifes() {
-        playerLifeImages = new ArrayList<>();
-        for (int i = 0; i <  model.getPlayerModel().getLifes(); i++) {
-            createPlayerLifeImage(i);
-        }
-    }
-
-    /**
-     * Creates meteor and sets its position, adds it to pane.
-     */
-    public void initializeMeteor() {
-        if (model.getModelMeteor() !=null) {
-          // Meteor meteorModel = new Meteor();
-            meteorImage = new ImageView((new Image(Constants.METEOR_IMAGE)));
-            meteorImage.setX(model.getModelMeteor().getItemCoordX());
-            meteorImage.setY(model.getModelMeteor().getItemCoordY());
-            addToGamePane(meteorImage);
-        }
-    }
-
-    /**
-     * Creates heart power up, sets position, preserve ratio, width and height, adds it to pane.
-     */
-    public void initializeHpUpHeart() {
-        hpUpHeart = new ImageView(new Image(Constants.HEART_URL));
-        hpUpHeart.setX(model.getHeartHpUp().getItemCoordX());
-        hpUpHeart.setY(model.getHeartHpUp().getItemCoordY());
-        hpUpHeart.setPreserveRatio(true);
-        hpUpHeart.setFitHeight(Constants.HEART_HEIGHT);
-        hpUpHeart.setFitWidth(Constants.HEART_WIDTH);
-        addToGamePane(hpUpHeart);
+        secondBackGroundY = Constants.BACKGROUND_SECOND_START_Y;
+        firstBackGroundY = Constants.BACKGROUND_FIRST_START_Y;
+        backGround.addToPane(firstBackGroundY, secondBackGroundY);
     }
 
     /**
@@ -530,76 +382,42 @@ public class SpaceInvaderInGameView implements IViewState {
     }
 
     /**
-     * Sets ult timer to 0 and adds the image to pane.
-     */
-    private void initializeUlt() {
-        ultTimer = 0;
-        addToGamePane(ultImage);
-    }
-
-    /**
-     * Removes ult from pane.
-     */
-    private void removeUlt() {
-        removeFromGamePane(ultImage);
-    }
-
-    /**
-     * Loops through all enemy models and initializes enemy images based on model attributes.
-     * Changes attributes depending on type of enemy (default, drone or big boss).
+     * Puts the right amount of player lives on screen.
      *
+     * @param snapshot newest snapshot
      */
-    private void initializeEnemies() {
-        ArrayList<EnemyShip> enemyModelList = model.getEnemyModelList();
-        String enemyURL;
-        for (int i = 0; i < enemyModelList.size(); i++) {
-            EnemyShip enemyModel = enemyModelList.get(i);
-            if (enemyModel.getImageUrl().equals(Constants.ENEMY_DRONE_SHIP_URL)) {
-            enemyURL = Constants.ENEMY_DRONE_SHIP_URL;
-            }
-           else if (enemyModel.getImageUrl().equals(Constants.ENEMY_BIG_BOSS_URL)){
-                enemyURL = Constants.ENEMY_BIG_BOSS_URL;
-                ImageView enemyImage = new ImageView(new Image(enemyURL));
-                enemyImage.setPreserveRatio(true);
-                enemyImage.setFitWidth(Constants.ENEMY_BIG_BOSS_WIDTH);
-                enemyImage.setFitHeight(Constants.ENEMY_BIG_BOSS_HEIGHT);
-                enemyImage.setX(enemyModel.getItemCoordX());
-                enemyImage.setY(enemyModel.getItemCoordY());
-                enemyImage.setRotate(180);
-                addToGamePane(enemyImage);
-                enemiesImageList.add(enemyImage);
-                break;
-            }
-            else {
-                enemyURL = Constants.ENEMY_SHIP_URL;
-            }
-            ImageView enemyImage = new ImageView(new Image(enemyURL));
-            enemyImage.setX(enemyModel.getItemCoordX());
-            enemyImage.setY(enemyModel.getItemCoordY());
-            enemyImage.setPreserveRatio(true);
-            enemyImage.setFitWidth(Constants.ENEMY_SHIP_WIDTH);
-            enemyImage.setFitHeight(Constants.ENEMY_SHIP_HEIGHT);
-            enemyImage.setRotate(180);
-            addToGamePane(enemyImage);
-            enemiesImageList.add(enemyImage);
+    private void initializePlayerLifes(GameSnapshot snapshot) {
+        playerLifeImages = new ArrayList<>();
+        for (int i = 0; i <  snapshot.getPlayerLifes(); i++) {
+            createPlayerLifeImage(snapshot, i);
         }
     }
 
+
     /**
      * Creates the image of the player, sets its position, adds it to pane.
+     *
+     * @param snapshot newest snapshot
      */
-    private void initializePlayer() {
-        PlayerShip playerModel = model.getPlayerModel();
-        playerImage = new ImageView(playerModel.getImageUrl());
-        playerImage.setX(playerModel.getItemCoordX());
-        playerImage.setY(playerModel.getItemCoordY());
+    private void initializePlayer(GameSnapshot snapshot) {
+        Rectangle2D playerRegion = SpriteAtlas.getSpriteAtlas().getRegion(snapshot.getPlayerImageUrl());
+        if (playerRegion != null) {
+            playerImage = new ImageView(SpriteAtlas.getSpriteAtlas().getAtlasImage());
+            playerImage.setViewport(playerRegion);
+        }
+        else {
+            playerImage = new ImageView(SpriteCache.getSpriteCache().getImage(snapshot.getPlayerImageUrl(), snapshot.getPlayerWidth(), snapshot.getPlayerHeight(), true));
+        }
+        playerImage.setX(snapshot.getPlayerRenderX(1));
+        playerImage.setY(snapshot.getPlayerRenderY(1));
         playerImage.setPreserveRatio(true);
-        playerImage.setFitHeight(playerModel.getItemHeight());
-        playerImage.setFitWidth(playerModel.getItemWidth());
-        //playerImage.resize(playerModel.getItemWidth(), playerModel.getItemHeight());
+        playerImage.setFitHeight(snapshot.getPlayerHeight());
+        playerImage.setFitWidth(snapshot.getPlayerWidth());
         addToGamePane(playerImage);
     }
 
+
+
     /**
      * Creates a sub scene for game over. Sets background, position, size, color, fonts. Adds texts, buttons and text field to it.
      * Gets high score from database. Disables save button after it's been clicked once.
@@ -610,7 +428,7 @@ public class SpaceInvaderInGameView implements IViewState {
 
         deathSubScene = new SubScene(new AnchorPane(),Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND,Constants.SCREEN_WIDTH * 0.45,Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND,Constants.SCREEN_WIDTH * 0.45,Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         AnchorPane deathAnchor = (AnchorPane) deathSubScene.getRoot();
@@ -626,14 +444,23 @@ public class SpaceInvaderInGameView implements IViewState {
         playerDeadText.setFill(Color.color(0.75, 0.9, 0.9));
         deathAnchor.getChildren().add(playerDeadText);
 
-        Text yourScoreText = new Text("Your score: " + model.getPoints());
+        Text yourScoreText = new Text("Your score: " + simulation.getSnapshot().getPoints());
         yourScoreText.setX(deathAnchor.getWidth() * 0.30);
         yourScoreText.setY(deathAnchor.getHeight() * 0.35);
         yourScoreText.setFont(Font.font("Verdana", 15));
         yourScoreText.setFill(Color.color(0.75, 0.9, 0.9));
         deathAnchor.getChildren().add(yourScoreText);
 
-        Text highScoreText = new Text("Current Highscore: " + HighScore.getHighScore().getTop10()[0].getScore()); // TODO add highscore in the line
+        Text highScoreText = new Text("Current Highscore: ...");
+        HighScore.getHighScore().getBestHighestScoreAsync().whenCompleteAsync((highScore, error) -> {
+            if (error != null) {
+                GameLogger.getLogger().error("Could not read the high score: " + error);
+                highScoreText.setText("Current Highscore: unavailable");
+            }
+            else {
+                highScoreText.setText("Current Highscore: " + highScore);
+            }
+        }, Platform::runLater);
         highScoreText.setX(deathAnchor.getWidth() * 0.30);
         highScoreText.setY(deathAnchor.getHeight() * 0.50);
         highScoreText.setFont(Font.font("Verdana", 15));
@@ -652,7 +479,7 @@ public class SpaceInvaderInGameView implements IViewState {
         enterNameField.setLayoutY(deathAnchor.getHeight() * 0.70);
         deathAnchor.getChildren().add(enterNameField);
 
-        Button saveScoreButton = new Button("Save score");
+        saveScoreButton = new Button("Save score");
         saveScoreButton.setLayoutX(deathAnchor.getWidth() * 0.10);
         saveScoreButton.setLayoutY(deathAnchor.getHeight() * 0.85);
         saveScoreButton.setBackground(SpaceInvaderMenuView.getSpaceInvaderMenuView().buttonOnReleasedBackground);
@@ -690,6 +517,20 @@ public class SpaceInvaderInGameView implements IViewState {
         }
     }
 
+    /**
+     * Tells the player that the score wasn't saved and lets them try again.
+     */
+    public void showScoreNotSaved() {
+        AnchorPane deathAnchor = (AnchorPane) deathSubScene.getRoot();
+        Text notSavedText = new Text("Score could not be saved");
+        notSavedText.setX(deathAnchor.getWidth() * 0.30);
+        notSavedText.setY(deathAnchor.getHeight() * 0.82);
+        notSavedText.setFont(Font.font("Verdana", 12));
+        notSavedText.setFill(Color.ORANGERED);
+        deathAnchor.getChildren().add(notSavedText);
+        saveScoreButton.setDisable(false);
+    }
+
     /**
      * Starts the listeners.
      */
@@ -706,10 +547,11 @@ public class SpaceInvaderInGameView implements IViewState {
     /**
      * Creates images for player lives and sets its position and size, adds them to pane.
      *
+     * @param snapshot newest snapshot
      * @param lifeNumber amount of lives remaining for player.
      */
-    private void createPlayerLifeImage(int lifeNumber) {
-        ImageView playerLifeImage = new ImageView(model.getPlayerModel().getImageUrl());
+    private void createPlayerLifeImage(GameSnapshot snapshot, int lifeNumber) {
+        ImageView playerLifeImage = new ImageView(SpriteCache.getSpriteCache().getImage(snapshot.getPlayerImageUrl(), Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true));
         playerLifeImage.setLayoutX(Constants.HEART_START_X + (lifeNumber * Constants.HEART_WIDTH));
         playerLifeImage.setLayoutY(Constants.HEART_START_Y);
         playerLifeImage.setPreserveRatio(true);
@@ -720,33 +562,6 @@ public class SpaceInvaderInGameView implements IViewState {
         addToGamePane(playerLifeImage);
     }
 
-
-    /**
-     * Sets the imageView based on the model Ibullet.
-     *
-     * @param bullet model bullet.
-     */
-    private void createBullet(IBullet bullet) {
-        OnScreenItems itemBullet = (OnScreenItems) bullet;
-        ImageView imageBullet;
-        System.out.println("bullet image created at x: " + itemBullet.getItemCoordX() + " y: " + itemBullet.getItemCoordY());
-        if (itemBullet.isFacingPlayer()) {
-            imageBullet = new ImageView(Constants.ENEMY_BULLET_URL);
-            imageBullet.setRotate(180);
-        }
-        else {
-            imageBullet = new ImageView(itemBullet.getImageUrl());
-        }
-        imageBullet.setX(itemBullet.getItemCoordX());
-        imageBullet.setY(itemBullet.getItemCoordY());
-        imageBullet.setPreserveRatio(true);
-        imageBullet.setFitHeight(itemBullet.getItemHeight());
-        imageBullet.setFitWidth(itemBullet.getItemWidth());
-
-        bulletsImageList.add(imageBullet);
-        addToGamePane(imageBullet);
-    }
-
     /****************** Create Methods ENDS  ******************************/
 
 
@@ -754,14 +569,17 @@ public class SpaceInvaderInGameView implements IViewState {
 
     /**
      * Starts game if true, stops if false.
+     * Stopping waits for the simulation thread, so the model can be changed safely afterwards.
      * @param on
      */
     public void setAnimationTimer(boolean on) {
 
         if (on) {
+            simulation.start();
             inGameTimer.start();
         } else {
             inGameTimer.stop();
+            simulation.stop();
         }
     }
 
@@ -9,7 +9,6 @@ import javafx.scene.SubScene;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -37,9 +36,11 @@ public class SpaceInvaderMenuView implements IViewState {
     private Button button;
     private static SubScene currentSubScene;
 
-    BackgroundImage buttonOnclickImg = new BackgroundImage(new Image(Constants.BUTTON_BG_CLICKED_URL), BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, BackgroundSize.DEFAULT);
+    // Button images are decoded at button size and stretched to fill buttons of other sizes
+    private static final BackgroundSize BUTTON_SIZE = new BackgroundSize(1, 1, true, true, false, false);
+    BackgroundImage buttonOnclickImg = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.BUTTON_BG_CLICKED_URL, Constants.MENU_BUTTON_WIDTH, Constants.MENU_BUTTON_HEIGHT, false), BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, BUTTON_SIZE);
     Background buttonOnOnclickBackground = new Background(buttonOnclickImg);
-    BackgroundImage buttonOnReleasedImage = new BackgroundImage(new Image(Constants.BUTTON_BG_URL), BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, BackgroundSize.DEFAULT);
+    BackgroundImage buttonOnReleasedImage = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.BUTTON_BG_URL, Constants.MENU_BUTTON_WIDTH, Constants.MENU_BUTTON_HEIGHT, false), BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, BUTTON_SIZE);
     Background buttonOnReleasedBackground = new Background(buttonOnReleasedImage);
 
     private static Scene menuScene;
@@ -81,7 +82,7 @@ public class SpaceInvaderMenuView implements IViewState {
         menuPane = new AnchorPane();
         menuScene = new Scene(menuPane, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
 
-        BackgroundImage bootImage = new BackgroundImage(new Image(Constants.GAME_BOOT_SCENE_BACK_GROUND, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT, false, true),
+        BackgroundImage bootImage = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_BOOT_SCENE_BACK_GROUND, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER, null);
 
         menuPane.setBackground(new Background(bootImage));
@@ -105,7 +106,7 @@ public class SpaceInvaderMenuView implements IViewState {
     /**
      * Calls the method to close any active sub scene.
      * Creates a sub scene, defines its width and height, background image.
-     * Gets high score from the HighScore class and displays it.
+     * Shows the leaderboard, which reads the scores a page at a time as it is scrolled.
      * Adds it to the menuPane.
      */
     public void initializeHighScoreSubScene() {
@@ -115,7 +116,7 @@ public class SpaceInvaderMenuView implements IViewState {
         AnchorPane scoreAnchor = new AnchorPane();
         currentSubScene = new SubScene(scoreAnchor, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.6, Constants.SCREEN_HEIGHT * 0.6, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.6, Constants.SCREEN_HEIGHT * 0.6, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         scoreAnchor.setBackground(new Background(image));
@@ -130,41 +131,10 @@ public class SpaceInvaderMenuView implements IViewState {
         text.setStyle("-fx-font: 24 sergoe;");
         scoreAnchor.getChildren().add(text);
 
-        double highScoreTextLeftX = scoreAnchor.getWidth() * 0.2;
-        double highScoreTextRightX = highScoreTextLeftX * 3;
-        double highScoreTextLeftY = scoreAnchor.getHeight() * 0.4;
-        double highScoreTextRightY = scoreAnchor.getHeight() * 0.4;
-        double highScoreTextYMargin = scoreAnchor.getHeight() * 0.08;
-
-                int i = 0;
-                for (HighScoreBean highScore : HighScore.getHighScore().getTop10()) {
-                    if (highScore != null) {
-
-                        if (i < 5) {
-                            Text highScoreText = new Text(highScore.getUsername() + " : " + highScore.getScore());
-                            highScoreText.setX(highScoreTextLeftX);
-                            highScoreText.setY(highScoreTextLeftY);
-                            highScoreTextLeftY += highScoreTextYMargin;
-                            highScoreText.setFill(Color.color(0.75, 0.9, 0.9));
-                            highScoreText.setStyle("-fx-font: 18 sergoe;");
-                            scoreAnchor.getChildren().add(highScoreText);
-                            i++;
-                        }
-                        else {
-                            Text highScoreText = new Text(highScore.getUsername() + " : " + highScore.getScore());
-                            highScoreText.setX(highScoreTextRightX);
-                            highScoreText.setY(highScoreTextRightY);
-                            highScoreTextRightY += highScoreTextYMargin;
-                            highScoreText.setFill(Color.color(0.75, 0.9, 0.9));
-                            highScoreText.setStyle("-fx-font: 18 sergoe;");
-                            scoreAnchor.getChildren().add(highScoreText);
-                            i++;
-                        }
-
-
-                    }
-
-            }
+        LeaderboardView leaderboard = new LeaderboardView(scoreAnchor.getWidth() * 0.6, scoreAnchor.getHeight() * 0.6);
+        leaderboard.getListView().setLayoutX(scoreAnchor.getWidth() * 0.2);
+        leaderboard.getListView().setLayoutY(scoreAnchor.getHeight() * 0.3);
+        scoreAnchor.getChildren().add(leaderboard.getListView());
 
         menuPane.getChildren().add(currentSubScene);
     }
@@ -182,7 +152,7 @@ public class SpaceInvaderMenuView implements IViewState {
         AnchorPane creditAnchor = new AnchorPane();
         currentSubScene = new SubScene(creditAnchor, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         creditAnchor.setBackground(new Background(image));
@@ -223,7 +193,7 @@ public class SpaceInvaderMenuView implements IViewState {
         AnchorPane settingsAnchor = new AnchorPane();
         currentSubScene = new SubScene(settingsAnchor, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         settingsAnchor.setBackground(new Background(image));
@@ -264,7 +234,7 @@ public class SpaceInvaderMenuView implements IViewState {
         AnchorPane helpAnchor = new AnchorPane();
         currentSubScene = new SubScene(helpAnchor, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.HELP_BACK_GROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.HELP_BACK_GROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         helpAnchor.setBackground(new Background(image));
@@ -288,7 +258,7 @@ public class SpaceInvaderMenuView implements IViewState {
         AnchorPane helpAnchor = new AnchorPane();
         currentSubScene = new SubScene(helpAnchor, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         helpAnchor.setBackground(new Background(image));
@@ -352,7 +322,7 @@ public class SpaceInvaderMenuView implements IViewState {
         for (SHIPCHOOSER ship : SHIPCHOOSER.values()) {
             VBox shipToPick = new VBox();
             CheckBox pickBox = new CheckBox();
-            ImageView shipImage = new ImageView(ship.getURL());
+            ImageView shipImage = new ImageView(SpriteCache.getSpriteCache().getImage(ship.getURL()));
 
             shipToPick.setAlignment(Pos.CENTER);
             shipToPick.setSpacing(20);
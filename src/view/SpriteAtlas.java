@@ -0,0 +1,120 @@
+package view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import model.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Packs the small in-game sprites into one image when the game starts, each at the size it is drawn in.
+ * Renderers draw a sprite as a region of the atlas, so all entities share one texture.
+ * Sprites that are not in the atlas are drawn from the sprite cache as before.
+ */
+public class SpriteAtlas {
+
+    private static final int ATLAS_WIDTH = 512;
+    private static final int PADDING = 1;
+
+    /**
+     * Sprites in the atlas, each at the size it is drawn in.
+     */
+    static final SpriteCache.Sprite[] SPRITES = {
+            new SpriteCache.Sprite(Constants.ENEMY_SHIP_URL, Constants.ENEMY_SHIP_WIDTH, Constants.ENEMY_SHIP_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.ENEMY_DRONE_SHIP_URL, Constants.ENEMY_DRONE_SHIP_WIDTH, Constants.ENEMY_DRONE_SHIP_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.ENEMY_BIG_BOSS_URL, Constants.ENEMY_BIG_BOSS_WIDTH, Constants.ENEMY_BIG_BOSS_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.LASER_BULLET_URL, Constants.LASER_BULLET_WIDTH, Constants.LASER_BULLET_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.ENEMY_BULLET_URL, Constants.LASER_BULLET_WIDTH, Constants.LASER_BULLET_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.MISSILE_URL, Constants.LASER_BULLET_WIDTH, Constants.LASER_BULLET_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.HEART_URL, Constants.HEART_WIDTH, Constants.HEART_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.METEOR_IMAGE),
+            new SpriteCache.Sprite(Constants.PLAYER_SHIP_URL, Constants.PLAYER_SHIP_WIDTH, Constants.PLAYER_SHIP_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.GREEN_PLAYER_SHIP_URL, Constants.PLAYER_SHIP_WIDTH, Constants.PLAYER_SHIP_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.BLUE_PLAYER_SHIP_URL, Constants.PLAYER_SHIP_WIDTH, Constants.PLAYER_SHIP_HEIGHT, true),
+            new SpriteCache.Sprite(Constants.RED_PLAYER_SHIP_URL, Constants.PLAYER_SHIP_WIDTH, Constants.PLAYER_SHIP_HEIGHT, true)
+    };
+
+    private static SpriteAtlas spriteAtlas;
+
+    private final WritableImage atlasImage;
+    private final HashMap<String, Rectangle2D> regions = new HashMap<>();
+
+    /**
+     * Creates and packs the sprite atlas unless there is one already.
+     * @return spriteAtlas
+     */
+    public static SpriteAtlas getSpriteAtlas() {
+        if (spriteAtlas == null) {
+            spriteAtlas = new SpriteAtlas();
+        }
+        return spriteAtlas;
+    }
+
+    /**
+     * Takes the sprites from the sprite cache, decoding any that aren't there yet, and packs them in shelves, tallest first.
+     */
+    private SpriteAtlas() {
+        ArrayList<String> urls = new ArrayList<>();
+        ArrayList<Image> images = new ArrayList<>();
+        for (SpriteCache.Sprite sprite : SPRITES) {
+            Image image = SpriteCache.getSpriteCache().getImage(sprite);
+            if (!image.isError() && image.getPixelReader() != null && image.getWidth() <= ATLAS_WIDTH) {
+                urls.add(sprite.getUrl());
+                images.add(image);
+            }
+        }
+
+        ArrayList<Integer> order = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Double.compare(images.get(b).getHeight(), images.get(a).getHeight()));
+
+        int[] packedX = new int[images.size()];
+        int[] packedY = new int[images.size()];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int width = (int) images.get(i).getWidth();
+            int height = (int) images.get(i).getHeight();
+            if (shelfX + width > ATLAS_WIDTH) {
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            packedX[i] = shelfX;
+            packedY[i] = shelfY;
+            shelfX += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+
+        atlasImage = new WritableImage(ATLAS_WIDTH, Math.max(1, shelfY + shelfHeight));
+        PixelWriter writer = atlasImage.getPixelWriter();
+        for (int i = 0; i < images.size(); i++) {
+            int width = (int) images.get(i).getWidth();
+            int height = (int) images.get(i).getHeight();
+            PixelReader reader = images.get(i).getPixelReader();
+            writer.setPixels(packedX[i], packedY[i], width, height, reader, 0, 0);
+            regions.put(urls.get(i), new Rectangle2D(packedX[i], packedY[i], width, height));
+        }
+    }
+
+    public Image getAtlasImage() {
+        return atlasImage;
+    }
+
+    /**
+     * Region of the atlas that holds a sprite.
+     *
+     * @param url sprite url
+     * @return region, or null if the sprite is not in the atlas
+     */
+    public Rectangle2D getRegion(String url) {
+        return regions.get(url);
+    }
+}
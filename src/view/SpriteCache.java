@@ -0,0 +1,158 @@
+package view;
+
+import javafx.scene.image.Image;
+import model.Constants;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes every sprite once, or once per size it is shown in, and shares the image between all views that show it.
+ * Keeps decoded images within Constants.SPRITE_CACHE_BUDGET_BYTES, dropping the least recently used
+ * ones first, so large one-off images like the help and sub scene backgrounds don't stay in memory.
+ * Only used from the JavaFX thread.
+ */
+public class SpriteCache {
+
+    private static SpriteCache spriteCache;
+
+    private final LinkedHashMap<String, Image> images = new LinkedHashMap<>(32, 0.75f, true);
+    private final long budgetBytes;
+    private long usedBytes = 0;
+
+    /**
+     * Creates the sprite cache unless there is one already.
+     * @return spriteCache
+     */
+    public static SpriteCache getSpriteCache() {
+        if (spriteCache == null) {
+            spriteCache = new SpriteCache(Constants.SPRITE_CACHE_BUDGET_BYTES);
+        }
+        return spriteCache;
+    }
+
+    private SpriteCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Gives the decoded image for a sprite, decoding it the first time.
+     *
+     * @param url sprite url
+     * @return shared image
+     */
+    public Image getImage(String url) {
+        return getImage(new Sprite(url));
+    }
+
+    /**
+     * Gives a sprite decoded straight at the size it is shown in, decoding it the first time.
+     * Each size is cached on its own, so views don't have to scale a large image down every frame.
+     *
+     * @param url sprite url
+     * @param width width to decode at
+     * @param height height to decode at
+     * @param preserveRatio if the image should keep its ratio and fit inside width and height
+     * @return shared image
+     */
+    public Image getImage(String url, double width, double height, boolean preserveRatio) {
+        return getImage(new Sprite(url, width, height, preserveRatio));
+    }
+
+    /**
+     * Gives the decoded image for a sprite at its size, decoding it the first time.
+     *
+     * @param sprite sprite and size
+     * @return shared image
+     */
+    public Image getImage(Sprite sprite) {
+        Image image = images.get(sprite.key);
+        if (image == null) {
+            image = sprite.decode();
+            add(sprite, image);
+        }
+        return image;
+    }
+
+    /**
+     * Adds a sprite that has been decoded somewhere else, unless it is cached already.
+     *
+     * @param sprite sprite and size
+     * @param image the decoded sprite
+     */
+    public void add(Sprite sprite, Image image) {
+        if (!images.containsKey(sprite.key)) {
+            images.put(sprite.key, image);
+            usedBytes += sizeInBytes(image);
+            evictOverBudget(sprite.key);
+        }
+    }
+
+    /**
+     * Drops the least recently used images until the cache is within budget, never the one just added.
+     */
+    private void evictOverBudget(String keepKey) {
+        Iterator<Map.Entry<String, Image>> oldest = images.entrySet().iterator();
+        while (usedBytes > budgetBytes && oldest.hasNext()) {
+            Map.Entry<String, Image> entry = oldest.next();
+            if (!entry.getKey().equals(keepKey)) {
+                usedBytes -= sizeInBytes(entry.getValue());
+                oldest.remove();
+            }
+        }
+    }
+
+    private long sizeInBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    /**
+     * A sprite and the size it is decoded at.
+     */
+    public static class Sprite {
+
+        private final String url;
+        private final double width;
+        private final double height;
+        private final boolean preserveRatio;
+        private final String key;
+
+        /**
+         * @param url sprite url, decoded at its own size
+         */
+        public Sprite(String url) {
+            this(url, 0, 0, false);
+        }
+
+        /**
+         * @param url sprite url
+         * @param width width to decode at
+         * @param height height to decode at
+         * @param preserveRatio if the image should keep its ratio and fit inside width and height
+         */
+        public Sprite(String url, double width, double height, boolean preserveRatio) {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.key = width > 0 && height > 0 ? url + "@" + width + "x" + height + (preserveRatio ? "r" : "") : url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Decodes the sprite without caching it, can be called from any thread.
+         *
+         * @return decoded image
+         */
+        public Image decode() {
+            if (width > 0 && height > 0) {
+                return new Image(url, width, height, preserveRatio, true);
+            }
+            return new Image(url);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import model.Constants;
+import model.GameLogger;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Draws the tall scrolling background from horizontal tiles instead of the whole image.
+ * Every tile is its own image file, so decoding a tile never reads the rows above it.
+ * Only the tiles on screen and the tile that scrolls in next are kept decoded, upcoming tiles are
+ * decoded on a background thread. Two copies of the strip follow each other, like the two image views did before.
+ */
+public class TiledBackground {
+
+    private static final int TILE_SLOTS = 6;
+    private static final ConcurrentHashMap<Integer, Image> preloadedTiles = new ConcurrentHashMap<>();
+
+    private final Pane pane;
+    private final URL[] tileResources;
+    private final int tileCount;
+    private final int tileHeight = Constants.BACKGROUND_TILE_HEIGHT;
+
+    private final ImageView[] tileViews = new ImageView[TILE_SLOTS];
+    private final ConcurrentHashMap<Integer, Image> decodedTiles = new ConcurrentHashMap<>();
+    // Tiles given to the decoder, removed by the decoder when it is done
+    private final Set<Integer> pendingTiles = ConcurrentHashMap.newKeySet();
+    private final HashSet<Integer> neededTiles = new HashSet<>();
+    private final ExecutorService decoder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Background tiles");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Finds the tile files of the background without decoding them.
+     *
+     * @param pane pane to add the tiles to
+     */
+    public TiledBackground(Pane pane) {
+        this.pane = pane;
+        ArrayList<URL> resources = new ArrayList<>();
+        URL resource = tileResource(0);
+        while (resource != null) {
+            resources.add(resource);
+            resource = tileResource(resources.size());
+        }
+        if (resources.isEmpty()) {
+            GameLogger.getLogger().error("No background tiles found at " + Constants.IN_GAME_BACK_GROUND_TILES);
+        }
+        this.tileResources = resources.toArray(new URL[0]);
+        this.tileCount = tileResources.length;
+
+        for (int i = 0; i < TILE_SLOTS; i++) {
+            tileViews[i] = new ImageView();
+        }
+    }
+
+    /**
+     * Decodes the tiles that are on screen when the strips start at the given positions, so the first frame
+     * of a game doesn't wait for them. Can be called from any thread, before the background is made.
+     *
+     * @param firstY y position of the first copy of the strip
+     * @param secondY y position of the second copy of the strip
+     */
+    public static void preload(double firstY, double secondY) {
+        TiledBackground background = new TiledBackground(null);
+        for (double copyY : new double[]{firstY, secondY}) {
+            for (int tile = background.firstTileOnScreen(copyY); tile <= background.lastTileOnScreen(copyY); tile++) {
+                Image image = background.decodeTile(tile);
+                if (image != null) {
+                    preloadedTiles.put(tile, image);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the tile views to the pane and decodes the tiles that are on screen right away, unless they were preloaded.
+     * Preloaded tiles are only used once, they are let go of after this.
+     * Called every time the pane has been cleared, before anything else is added.
+     *
+     * @param firstY y position of the first copy of the strip
+     * @param secondY y position of the second copy of the strip
+     */
+    public void addToPane(double firstY, double secondY) {
+        pane.getChildren().addAll(tileViews);
+        for (double copyY : new double[]{firstY, secondY}) {
+            for (int tile = firstTileOnScreen(copyY); tile <= lastTileOnScreen(copyY); tile++) {
+                if (!decodedTiles.containsKey(tile)) {
+                    Image image = preloadedTiles.get(tile);
+                    if (image == null) {
+                        image = decodeTile(tile);
+                    }
+                    if (image != null) {
+                        decodedTiles.put(tile, image);
+                    }
+                }
+            }
+        }
+        preloadedTiles.clear();
+        draw(firstY, secondY);
+    }
+
+    /**
+     * Places the decoded tiles that are on screen, starts decoding the tiles that scroll in next
+     * and drops tiles that have scrolled out.
+     *
+     * @param firstY y position of the first copy of the strip
+     * @param secondY y position of the second copy of the strip
+     */
+    public void draw(double firstY, double secondY) {
+        neededTiles.clear();
+        int slot = 0;
+        // The second copy is drawn on top of the first, like before
+        for (double copyY : new double[]{firstY, secondY}) {
+            for (int tile = firstTileOnScreen(copyY); tile <= lastTileOnScreen(copyY); tile++) {
+                neededTiles.add(tile);
+                Image image = decodedTiles.get(tile);
+                if (image != null && slot < TILE_SLOTS) {
+                    ImageView tileView = tileViews[slot++];
+                    tileView.setImage(image);
+                    tileView.setY(copyY + tile * tileHeight);
+                    tileView.setVisible(true);
+                }
+            }
+            // The strip scrolls down, so the tile above the screen is the next one in
+            int nextTile = firstTileOnScreen(copyY + tileHeight);
+            if (nextTile >= 0 && nextTile < tileCount) {
+                neededTiles.add(nextTile);
+            }
+        }
+        for (; slot < TILE_SLOTS; slot++) {
+            tileViews[slot].setVisible(false);
+            tileViews[slot].setImage(null);
+        }
+
+        for (Integer tile : neededTiles) {
+            if (!decodedTiles.containsKey(tile) && pendingTiles.add(tile)) {
+                decoder.execute(() -> {
+                    Image image = decodeTile(tile);
+                    if (image != null) {
+                        decodedTiles.put(tile, image);
+                    }
+                    // A tile that couldn't be decoded is tried again when it is still needed
+                    pendingTiles.remove(tile);
+                });
+            }
+        }
+        Iterator<Integer> decoded = decodedTiles.keySet().iterator();
+        while (decoded.hasNext()) {
+            Integer tile = decoded.next();
+            if (!neededTiles.contains(tile)) {
+                decoded.remove();
+            }
+        }
+    }
+
+    /**
+     * First tile of a copy that reaches the screen, may be past the last tile if none does.
+     */
+    private int firstTileOnScreen(double copyY) {
+        return Math.max(0, (int) Math.floor(-copyY / tileHeight));
+    }
+
+    /**
+     * Last tile of a copy that reaches the screen, may be below zero if none does.
+     */
+    private int lastTileOnScreen(double copyY) {
+        return Math.min(tileCount - 1, (int) Math.floor((Constants.SCREEN_HEIGHT - copyY) / tileHeight));
+    }
+
+    private static URL tileResource(int tile) {
+        return TiledBackground.class.getClassLoader().getResource(String.format(Constants.IN_GAME_BACK_GROUND_TILES, tile));
+    }
+
+    /**
+     * Decodes one tile file of the background.
+     *
+     * @param tile tile index from the top
+     * @return the tile, or null if it couldn't be read
+     */
+    private Image decodeTile(int tile) {
+        Image image = new Image(tileResources[tile].toExternalForm());
+        if (image.isError()) {
+            GameLogger.getLogger().error("Could not decode background tile " + tile + ": " + image.getException());
+            return null;
+        }
+        return image;
+    }
+}
@@ -4,7 +4,6 @@ import controller.SpaceInvaderButtonListener;
 import javafx.scene.Scene;
 import javafx.scene.SubScene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
@@ -85,7 +84,6 @@ public class ViewManager {
 
         stage.show();
 
-
     }
 
     public void setMainScene(Scene mainScene) {
@@ -127,7 +125,7 @@ public class ViewManager {
         AnchorPane exitAnchor = new AnchorPane();
         exitScene = new SubScene(exitAnchor, subSceneWidth, subSceneHeight);
 
-        BackgroundImage image = new BackgroundImage(new Image(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false, true),
+        BackgroundImage image = new BackgroundImage(SpriteCache.getSpriteCache().getImage(Constants.GAME_OVER_SUB_SCENE_BACKGROUND, Constants.SCREEN_WIDTH * 0.45, Constants.SCREEN_HEIGHT * 0.45, false),
                 BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, null);
 
         exitAnchor.setBackground(new Background(image));